@@ -0,0 +1,142 @@
+package com.project.daycheck.config.security;
+
+import com.project.daycheck.config.logging.RequestLoggingFilter;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.Key;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 인증/로깅 필터 오버헤드 측정
+ * - legacyFilter: 변경 전 필터 동작 (헤더 전체 순회, 토큰 로그, 요청마다 파서 생성 및 서명 검증 2회)
+ * - jwtFilter: 현재 JwtAuthenticationFilter (검증 캐시 사용)
+ * - jwtFilterWithRequestLog: 현재 JwtAuthenticationFilter + RequestLoggingFilter (sampleRate 별)
+ */
+@Slf4j
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "n1+cmO5jK90cDPDi1WPOpoJ7quq4mklwljZlUnc8s1ZQ0bqM0abQlCwF7hR+2Al/0XMTp4OXD5oN3tY4bAY8eA==";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private Key key;
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 3600, 604800);
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(
+                new JwtAuthenticationCache(jwtTokenProvider, new SimpleMeterRegistry(), 10_000));
+
+        List<GrantedAuthority> authorities = AuthorityUtils.createAuthorityList("ROLE_USER");
+        token = jwtTokenProvider.createAccessToken(new UsernamePasswordAuthenticationToken(
+                new MemberPrincipal("bench@test.com", 1L, authorities), "", authorities));
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Authentication legacyFilter() {
+        HttpServletRequest request = newRequest();
+
+        Enumeration<String> headerNames = request.getHeaderNames();
+        while (headerNames.hasMoreElements()) {
+            String headerName = headerNames.nextElement();
+            log.debug("Header: {} = {}", headerName, request.getHeader(headerName));
+        }
+
+        String bearerToken = request.getHeader("Authorization");
+        log.debug("Authorization 헤더: {}", bearerToken);
+        String jwt = bearerToken.substring(7);
+        log.debug("추출된 JWT 토큰: {}", jwt);
+
+        // validateToken
+        log.debug("사용된 서명 키 길이: {} 바이트", key.getEncoded().length);
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(jwt);
+
+        // getAuthentication -> parseClaims
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(jwt).getBody();
+        Authentication authentication = jwtTokenProvider.getAuthentication(claims, jwt);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        return authentication;
+    }
+
+    @Benchmark
+    public Authentication jwtFilter() throws Exception {
+        jwtAuthenticationFilter.doFilter(newRequest(), new MockHttpServletResponse(), NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Authentication jwtFilterWithRequestLog(RequestLogState state) throws Exception {
+        state.requestLoggingFilter.doFilter(newRequest(), new MockHttpServletResponse(),
+                (request, response) -> jwtAuthenticationFilter.doFilter(request, response, NO_OP_CHAIN));
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @State(Scope.Benchmark)
+    public static class RequestLogState {
+
+        @Param({"0.0", "0.1", "1.0"})
+        private double sampleRate;
+
+        private RequestLoggingFilter requestLoggingFilter;
+
+        @Setup
+        public void setUp() {
+            requestLoggingFilter = new RequestLoggingFilter(true, sampleRate, 1000,
+                    new String[]{"authorization", "cookie"}, new String[]{"token"});
+        }
+    }
+
+    /**
+     * 브라우저 요청과 비슷한 헤더 구성
+     */
+    private MockHttpServletRequest newRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/schedules/2025-05-14");
+        request.addHeader("Host", "localhost:8080");
+        request.addHeader("Accept", "application/json");
+        request.addHeader("Accept-Encoding", "gzip, deflate, br");
+        request.addHeader("Accept-Language", "ko-KR,ko;q=0.9,en-US;q=0.8");
+        request.addHeader("Origin", "http://localhost:5173");
+        request.addHeader("Referer", "http://localhost:5173/");
+        request.addHeader("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36");
+        request.addHeader("Connection", "keep-alive");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
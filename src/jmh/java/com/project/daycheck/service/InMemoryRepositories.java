@@ -0,0 +1,58 @@
+package com.project.daycheck.service;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 벤치마크용 메모리 리포지토리
+ * 리포지토리 인터페이스를 동적 프록시로 구현하고, 메소드 이름별로 미리 준비한 결과를 반환 (DB 없이 서비스 코드 실행)
+ */
+final class InMemoryRepositories {
+
+    private InMemoryRepositories() {
+    }
+
+    static <T> Builder<T> of(Class<T> type) {
+        return new Builder<>(type);
+    }
+
+    static final class Builder<T> {
+
+        private final Class<T> type;
+        private final Map<String, Object> results = new HashMap<>();
+
+        private Builder(Class<T> type) {
+            this.type = type;
+        }
+
+        /**
+         * 인자와 관계없이 항상 같은 결과 반환
+         */
+        Builder<T> returns(String methodName, Object result) {
+            results.put(methodName, result);
+            return this;
+        }
+
+        T build() {
+            Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+                if (method.getDeclaringClass() == Object.class) {
+                    switch (method.getName()) {
+                        case "equals":
+                            return self == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(self);
+                        default:
+                            return type.getSimpleName() + "(in-memory)";
+                    }
+                }
+
+                if (!results.containsKey(method.getName())) {
+                    throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+                }
+                return results.get(method.getName());
+            });
+            return type.cast(proxy);
+        }
+    }
+}
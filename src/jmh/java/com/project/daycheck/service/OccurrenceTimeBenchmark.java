@@ -0,0 +1,84 @@
+package com.project.daycheck.service;
+
+import com.project.daycheck.entity.MinuteOfDay;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반복 일정 발생일의 시작/종료 시각 생성 비용 (1년 전개 기준)
+ * - parseTimeStrings: 변경 전 createScheduleFromPattern (발생일마다 DateTimeFormatter 생성 + "HH:mm" 파싱)
+ * - minuteOfDay: 저장된 하루 중 분 값으로 결합 (정수 연산 + 캐시된 LocalTime)
+ * 할당량 비교는 gc 프로파일러 결과의 gc.alloc.rate.norm (연산당 바이트) 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OccurrenceTimeBenchmark {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+
+    @Param({"10", "100"})
+    private int patternCount;
+
+    private String[] startTimes;
+    private String[] endTimes;
+    private int[] startMinutes;
+    private int[] endMinutes;
+    private LocalDate[] days;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        startTimes = new String[patternCount];
+        endTimes = new String[patternCount];
+        startMinutes = new int[patternCount];
+        endMinutes = new int[patternCount];
+        for (int i = 0; i < patternCount; i++) {
+            startTimes[i] = String.format("%02d:%02d", 6 + random.nextInt(12), random.nextInt(4) * 15);
+            endTimes[i] = String.format("%02d:%02d", 18 + random.nextInt(5), random.nextInt(4) * 15);
+            startMinutes[i] = MinuteOfDay.parse(startTimes[i]);
+            endMinutes[i] = MinuteOfDay.parse(endTimes[i]);
+        }
+
+        // 1년 동안 매일 발생하는 패턴으로 가정
+        days = new LocalDate[365];
+        for (int i = 0; i < days.length; i++) {
+            days[i] = FROM.plusDays(i);
+        }
+    }
+
+    @Benchmark
+    public void parseTimeStrings(Blackhole blackhole) {
+        for (int i = 0; i < patternCount; i++) {
+            for (LocalDate date : days) {
+                LocalTime startTime = LocalTime.parse(startTimes[i], DateTimeFormatter.ofPattern("HH:mm"));
+                LocalTime endTime = LocalTime.parse(endTimes[i], DateTimeFormatter.ofPattern("HH:mm"));
+                blackhole.consume(date.atTime(startTime));
+                blackhole.consume(date.atTime(endTime));
+            }
+        }
+    }
+
+    @Benchmark
+    public void minuteOfDay(Blackhole blackhole) {
+        for (int i = 0; i < patternCount; i++) {
+            for (LocalDate date : days) {
+                blackhole.consume(MinuteOfDay.atDate(date, startMinutes[i]));
+                blackhole.consume(MinuteOfDay.atDate(date, endMinutes[i]));
+            }
+        }
+    }
+}
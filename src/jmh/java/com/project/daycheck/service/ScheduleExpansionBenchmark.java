@@ -0,0 +1,309 @@
+package com.project.daycheck.service;
+
+import com.project.daycheck.config.security.CurrentMemberResolver;
+import com.project.daycheck.config.security.MemberPrincipal;
+import com.project.daycheck.dto.ScheduleDTO;
+import com.project.daycheck.entity.CompletionHistory;
+import com.project.daycheck.entity.DayOfWeekMask;
+import com.project.daycheck.entity.MinuteOfDay;
+import com.project.daycheck.entity.RecurringException;
+import com.project.daycheck.entity.RecurringSchedule;
+import com.project.daycheck.entity.Schedules;
+import com.project.daycheck.repository.CompletionHistoryRepository;
+import com.project.daycheck.repository.RecurringExceptionRepository;
+import com.project.daycheck.repository.RecurringOccurrenceRepository;
+import com.project.daycheck.repository.RecurringScheduleDayRepository;
+import com.project.daycheck.repository.RecurringScheduleRepository;
+import com.project.daycheck.repository.ScheduleDayBucketRepository;
+import com.project.daycheck.repository.ScheduleRepository;
+import com.project.daycheck.service.calendar.DayViewCache;
+import com.project.daycheck.service.calendar.MemberDataVersion;
+import com.project.daycheck.service.calendar.QueryFanOutExecutor;
+import com.project.daycheck.service.completion.CompletionIndexCache;
+import com.project.daycheck.service.completion.CompletionWriteBuffer;
+import com.project.daycheck.service.recurrence.RecurrenceExpander;
+import com.project.daycheck.service.recurrence.RecurrenceMatcher;
+import com.project.daycheck.service.recurrence.RecurrenceIndex;
+import com.project.daycheck.service.recurrence.RecurrenceMatcherCache;
+import com.project.daycheck.service.recurrence.RecurringOccurrenceMaterializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반복 일정 전개와 날짜별 일정 조립 비용 측정 (메모리 엔티티, DB 없음)
+ * - matcherDayScan: 기간의 날짜마다 매처로 일치 여부 확인 (하루씩 검사하는 방식)
+ * - matcherExpand: RecurrenceExpander 로 발생일만 계산
+ * - recurringSchedules: RecurringScheduleService 기간 조회 (전개 + 예외 적용 + DTO 생성)
+ * - dayView: ScheduleQueryService 기간 조회 (일반/반복 일정 병합 + 완료 상태 적용 + 날짜별 정렬)
+ * 패턴 구성은 주간 40%, 매일 25%, 매월(n일) 15%, 매월(n번째 요일) 10%, 매년 5%, 사용자 지정 5%
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(time = 1) // 파라미터 조합(27개)이 많으므로 반복 시간을 1초로 줄임
+@Measurement(time = 1)
+public class ScheduleExpansionBenchmark {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final LocalDate FROM = LocalDate.of(2025, 5, 14);
+    private static final LocalDateTime VERSION = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final String[] PRIORITIES = {"high", "medium", "low", null};
+
+    @Param({"10", "100", "1000"})
+    private int patternCount;
+
+    @Param({"0.0", "0.05", "0.2"})
+    private double exceptionDensity;
+
+    @Param({"DAY", "MONTH", "YEAR"})
+    private String window;
+
+    private LocalDate to;
+    private List<RecurrenceMatcher> matchers;
+    private RecurringScheduleService recurringScheduleService;
+    private ScheduleQueryService scheduleQueryService;
+
+    @Setup
+    public void setUp() {
+        to = switch (window) {
+            case "DAY" -> FROM;
+            case "MONTH" -> FROM.plusDays(30);
+            default -> FROM.plusDays(364);
+        };
+
+        Random random = new Random(42);
+        List<RecurringSchedule> patterns = new ArrayList<>();
+        matchers = new ArrayList<>();
+        for (long id = 1; id <= patternCount; id++) {
+            RecurringSchedule pattern = randomPattern(id, random);
+            patterns.add(pattern);
+            matchers.add(RecurrenceMatcher.compile(pattern));
+        }
+
+        // 발생일 중 exceptionDensity 비율만큼 예외 (절반은 건너뛰기, 절반은 수정), 30%는 완료 이력
+        List<RecurringException> exceptions = new ArrayList<>();
+        List<CompletionHistory> completions = new ArrayList<>();
+        for (RecurrenceMatcher matcher : matchers) {
+            for (LocalDate date : RecurrenceExpander.expand(matcher, FROM, to)) {
+                if (random.nextDouble() < exceptionDensity) {
+                    exceptions.add(randomException(matcher.getPatternId(), date, random));
+                }
+                if (random.nextDouble() < 0.3) {
+                    completions.add(completion(matcher.getPatternId(), true, date));
+                }
+            }
+        }
+
+        // 일반 일정은 패턴 수의 절반 (하루 또는 여러 날에 걸친 일정)
+        List<Schedules> schedules = new ArrayList<>();
+        int span = (int) (to.toEpochDay() - FROM.toEpochDay()) + 1;
+        for (long id = 1; id <= Math.max(1, patternCount / 2); id++) {
+            LocalDate start = FROM.plusDays(random.nextInt(span));
+            schedules.add(Schedules.builder()
+                    .id(id)
+                    .memberId(MEMBER_ID)
+                    .content("일정 " + id)
+                    .startDate(start.atTime(8 + random.nextInt(10), 0))
+                    .endDate(start.plusDays(random.nextInt(10) < 8 ? 0 : random.nextInt(3)).atTime(20, 0))
+                    .completed(false)
+                    .priority(PRIORITIES[random.nextInt(PRIORITIES.length)])
+                    .build());
+            if (random.nextDouble() < 0.3) {
+                completions.add(completion(id, false, start));
+            }
+        }
+
+        RecurringScheduleRepository recurringScheduleRepository = InMemoryRepositories.of(RecurringScheduleRepository.class)
+                .returns("findActiveInRange", patterns)
+                .returns("findActiveOnDate", patterns)
+                .build();
+        RecurringScheduleDayRepository recurringScheduleDayRepository = InMemoryRepositories.of(RecurringScheduleDayRepository.class).build();
+        RecurringExceptionRepository recurringExceptionRepository = InMemoryRepositories.of(RecurringExceptionRepository.class)
+                .returns("findByMemberIdAndDateBetween", exceptions)
+                .build();
+        ScheduleRepository scheduleRepository = InMemoryRepositories.of(ScheduleRepository.class)
+                .returns("findSchedulesForDateRangeAndMember", schedules)
+                .build();
+        CompletionHistoryRepository completionHistoryRepository = InMemoryRepositories.of(CompletionHistoryRepository.class)
+                .returns("findByMemberIdAndCompletionDateBetween", completions)
+                .build();
+
+        CurrentMemberResolver currentMemberResolver = new CurrentMemberResolver(null);
+        CompletionIndexCache completionIndexCache = new CompletionIndexCache(new SimpleMeterRegistry(), 100, 30, 90);
+        PlatformTransactionManager transactionManager = InMemoryRepositories.of(PlatformTransactionManager.class).build();
+
+        RecurrenceMatcherCache recurrenceMatcherCache = new RecurrenceMatcherCache(new SimpleMeterRegistry(), 100_000);
+        RecurringOccurrenceRepository recurringOccurrenceRepository = InMemoryRepositories.of(RecurringOccurrenceRepository.class).build();
+        MemberDataVersion memberDataVersion = new MemberDataVersion(
+                new JdbcTemplate(), currentMemberResolver, new SimpleMeterRegistry(), 100, 5);
+        DayViewCache dayViewCache = new DayViewCache(new SimpleMeterRegistry(), memberDataVersion, false, 1000, 10); // 조립 비용 측정을 위해 캐시 끔
+
+        recurringScheduleService = new RecurringScheduleService(recurringScheduleRepository, recurringScheduleDayRepository,
+                recurringExceptionRepository, currentMemberResolver, recurrenceMatcherCache, recurringOccurrenceRepository,
+                new RecurringOccurrenceMaterializer(recurringOccurrenceRepository, recurringScheduleRepository,
+                        recurringExceptionRepository, recurrenceMatcherCache,
+                        transactionManager, new JdbcTemplate(), false, 90, 30),
+                memberDataVersion,
+                new RecurrenceIndex(recurrenceMatcherCache, memberDataVersion, new SimpleMeterRegistry(), false, 100, 5));
+        scheduleQueryService = new ScheduleQueryService(
+                new ScheduleService(scheduleRepository,
+                        InMemoryRepositories.of(ScheduleDayBucketRepository.class).build(), currentMemberResolver,
+                        memberDataVersion, new JdbcTemplate()),
+                recurringScheduleService,
+                new CompletionHistoryService(completionHistoryRepository, currentMemberResolver, completionIndexCache,
+                        new CompletionWriteBuffer(new JdbcTemplate(), transactionManager, completionIndexCache,
+                                memberDataVersion, false, 100, 100),
+                        dayViewCache, memberDataVersion),
+                currentMemberResolver,
+                dayViewCache,
+                new QueryFanOutExecutor(new SimpleMeterRegistry(), false, 1, 1)); // 조립 비용만 측정
+
+        // 벤치마크 스레드와 설정 스레드가 다를 수 있으므로 전역 보안 컨텍스트 사용
+        List<GrantedAuthority> authorities = AuthorityUtils.createAuthorityList("ROLE_USER");
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new MemberPrincipal("bench@test.com", MEMBER_ID, authorities), "", authorities));
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public int matcherDayScan() {
+        int occurrences = 0;
+        for (RecurrenceMatcher matcher : matchers) {
+            for (LocalDate date = FROM; !date.isAfter(to); date = date.plusDays(1)) {
+                if (matcher.matches(date)) {
+                    occurrences++;
+                }
+            }
+        }
+        return occurrences;
+    }
+
+    @Benchmark
+    public int matcherExpand() {
+        int occurrences = 0;
+        for (RecurrenceMatcher matcher : matchers) {
+            occurrences += RecurrenceExpander.expand(matcher, FROM, to).size();
+        }
+        return occurrences;
+    }
+
+    @Benchmark
+    public Map<LocalDate, List<ScheduleDTO>> recurringSchedules() {
+        return recurringScheduleService.getRecurringSchedulesGroupedByDate(FROM, to);
+    }
+
+    @Benchmark
+    public Map<LocalDate, List<ScheduleDTO>> dayView() {
+        return scheduleQueryService.getAllSchedulesByDateRange(FROM, to);
+    }
+
+    private static RecurringSchedule randomPattern(long id, Random random) {
+        List<DayOfWeek> days = new ArrayList<>();
+        int roll = random.nextInt(100);
+        LocalDateTime startDate = FROM.minusDays(random.nextInt(730)).atStartOfDay();
+        // 20%는 조회 기간 이후에 끝나는 종료일이 있음
+        LocalDateTime endDate = random.nextInt(5) == 0 ? FROM.plusDays(30 + random.nextInt(700)).atStartOfDay() : null;
+
+        String startTime = String.format("%02d:%02d", 6 + random.nextInt(14), random.nextInt(4) * 15);
+
+        // DB 에서 읽은 엔티티처럼 하루 중 분 값도 채워 둠
+        RecurringSchedule.RecurringScheduleBuilder builder = RecurringSchedule.builder()
+                .id(id)
+                .memberId(MEMBER_ID)
+                .content("반복 일정 " + id)
+                .interval(1)
+                .startDate(startDate)
+                .endDate(endDate)
+                .startTime(startTime)
+                .endTime("22:00")
+                .startMinute(MinuteOfDay.parse(startTime))
+                .endMinute(MinuteOfDay.parse("22:00"))
+                .priority(PRIORITIES[random.nextInt(PRIORITIES.length)])
+                .updateAt(VERSION);
+
+        if (roll < 40) {
+            addRandomDays(random, days, 1 + random.nextInt(3));
+            builder.patternType("WEEKLY").interval(1 + random.nextInt(2));
+        } else if (roll < 65) {
+            builder.patternType("DAILY").interval(1 + random.nextInt(3));
+        } else if (roll < 80) {
+            builder.patternType("MONTHLY").dayOfMonth(1 + random.nextInt(31));
+        } else if (roll < 90) {
+            addRandomDays(random, days, 1);
+            builder.patternType("MONTHLY").weekOfMonth(1 + random.nextInt(4));
+        } else if (roll < 95) {
+            builder.patternType("YEARLY");
+        } else {
+            addRandomDays(random, days, 2 + random.nextInt(3));
+            builder.patternType("CUSTOM");
+        }
+        return builder.daysMask(DayOfWeekMask.of(days)).build();
+    }
+
+    private static void addRandomDays(Random random, List<DayOfWeek> days, int count) {
+        while (days.size() < count) {
+            DayOfWeek day = DayOfWeek.of(1 + random.nextInt(7));
+            if (!days.contains(day)) {
+                days.add(day);
+            }
+        }
+    }
+
+    private static RecurringException randomException(Long patternId, LocalDate date, Random random) {
+        if (random.nextBoolean()) {
+            return RecurringException.builder()
+                    .recurringScheduleId(patternId)
+                    .exceptionDate(date)
+                    .exceptionType("SKIP")
+                    .build();
+        }
+        return RecurringException.builder()
+                .recurringScheduleId(patternId)
+                .exceptionDate(date)
+                .exceptionType("MODIFY")
+                .modifiedTitle("변경된 일정")
+                .modifiedStartTime("10:30")
+                .modifiedStartMinute(MinuteOfDay.parse("10:30"))
+                .build();
+    }
+
+    private static CompletionHistory completion(Long scheduleId, boolean isRecurring, LocalDate date) {
+        return CompletionHistory.builder()
+                .scheduleId(scheduleId)
+                .isRecurring(isRecurring)
+                .completionDate(date)
+                .completed(true)
+                .memberId(MEMBER_ID)
+                .build();
+    }
+}
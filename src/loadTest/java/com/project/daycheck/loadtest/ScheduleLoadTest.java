@@ -0,0 +1,146 @@
+package com.project.daycheck.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 일정 조회 API 부하 테스트 (./gradlew loadTest)
+ * 실행 중인 서버에 동시 요청(closed loop)을 보내 처리량과 지연 시간 백분위를 출력
+ * 같은 조건으로 기본 모드와 virtual 프로필(--spring.profiles.active=virtual)로 띄운 서버를 각각 측정해 비교
+ *
+ * 설정 (-PloadTest.xxx)
+ * - baseUrl: 서버 주소 (기본 http://localhost:8080)
+ * - token: Authorization 헤더에 넣을 JWT 액세스 토큰 (필수)
+ * - path: 요청 경로 (기본 /api/schedules/{오늘})
+ * - concurrency: 동시 요청 수 (기본 500)
+ * - warmupSeconds: 측정 전 워밍업 시간 (기본 10)
+ * - durationSeconds: 측정 시간 (기본 30)
+ */
+public class ScheduleLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("loadTest.baseUrl", "http://localhost:8080");
+        String token = System.getProperty("loadTest.token");
+        String path = System.getProperty("loadTest.path", "/api/schedules/" + LocalDate.now());
+        int concurrency = Integer.getInteger("loadTest.concurrency", 500);
+        int warmupSeconds = Integer.getInteger("loadTest.warmupSeconds", 10);
+        int durationSeconds = Integer.getInteger("loadTest.durationSeconds", 30);
+
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("loadTest.token 이 필요합니다 (-PloadTest.token=<JWT>)");
+        }
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+        // 클라이언트 쪽 스레드 수가 병목이 되지 않도록 가상 스레드로 요청
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(executor)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+
+            System.out.printf("대상: %s, 동시 요청: %d%n", request.uri(), concurrency);
+            run(client, executor, request, concurrency, warmupSeconds);
+            Result result = run(client, executor, request, concurrency, durationSeconds);
+            result.print(durationSeconds);
+        }
+    }
+
+    /**
+     * 동시 요청 수만큼 작업이 정해진 시간 동안 응답을 받자마자 다음 요청을 보냄
+     */
+    private static Result run(HttpClient client, ExecutorService executor, HttpRequest request,
+                              int concurrency, int seconds) throws Exception {
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        AtomicLong errors = new AtomicLong();
+
+        List<Future<long[]>> workers = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            workers.add(executor.submit(() -> {
+                LatencyRecorder recorder = new LatencyRecorder();
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() >= 400) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        recorder.add(System.nanoTime() - start);
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                }
+                return recorder.toArray();
+            }));
+        }
+
+        List<long[]> latencies = new ArrayList<>(concurrency);
+        for (Future<long[]> worker : workers) {
+            latencies.add(worker.get());
+        }
+        return Result.of(latencies, errors.get());
+    }
+
+    /**
+     * 작업별 지연 시간 기록 (작업마다 따로 두어 경합 없이 기록)
+     */
+    private static final class LatencyRecorder {
+        private long[] values = new long[1024];
+        private int size;
+
+        private void add(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        private long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private record Result(long[] sortedLatencies, long errors) {
+
+        private static Result of(List<long[]> latencies, long errors) {
+            long[] all = latencies.stream().flatMapToLong(Arrays::stream).toArray();
+            Arrays.sort(all);
+            return new Result(all, errors);
+        }
+
+        private void print(int seconds) {
+            int count = sortedLatencies.length;
+            System.out.printf("성공 %d건, 실패 %d건, 처리량 %.1f req/s%n", count, errors, (double) count / seconds);
+            if (count == 0) {
+                return;
+            }
+            System.out.printf("지연 시간(ms) p50 %.1f, p95 %.1f, p99 %.1f, max %.1f%n",
+                    percentile(0.50), percentile(0.95), percentile(0.99), millis(sortedLatencies[count - 1]));
+        }
+
+        private double percentile(double p) {
+            int index = (int) Math.ceil(p * sortedLatencies.length) - 1;
+            return millis(sortedLatencies[Math.max(index, 0)]);
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -49,13 +49,15 @@ public class CorsConfig {
                 "Authorization",
                 "Content-Type",
                 "X-Requested-With",
-                "Accept"
+                "Accept",
+                "If-None-Match"
         ));
 
         // 노출할 헤더 지정
         config.setExposedHeaders(List.of(
                 "Authorication",
-                "Content-Type"
+                "Content-Type",
+                "ETag"
         ));
 
         // 모든 API 경로에 적용
@@ -0,0 +1,213 @@
+package com.project.daycheck.config.logging;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Enumeration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 요청 액세스 로그 필터
+ * 요청마다 key=value 형식의 한 줄 로그를 남김
+ * - sample-rate 비율만큼만 기록하되, 5xx 응답과 느린 요청은 항상 기록
+ * - 민감한 헤더/쿼리 파라미터 값은 마스킹
+ * - 헤더 전체는 이 로거의 debug 가 켜져 있을 때만 순회하여 기록
+ * - 비동기 요청(스트리밍 응답 등)은 첫 디스패치가 아니라 비동기 처리가 끝났을 때 최종 상태와 전체 시간으로 기록
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+    private static final String REDACTED = "***";
+
+    private final boolean enabled;
+    private final double sampleRate;
+    private final long slowThresholdMillis;
+    private final Set<String> redactedHeaders;
+    private final Set<String> redactedParams;
+
+    public RequestLoggingFilter(
+            @Value("${spring.request-log.enabled:true}") boolean enabled,
+            @Value("${spring.request-log.sample-rate:1.0}") double sampleRate,
+            @Value("${spring.request-log.slow-threshold-ms:1000}") long slowThresholdMillis,
+            @Value("${spring.request-log.redact-headers:authorization,cookie,set-cookie}") String[] redactedHeaders,
+            @Value("${spring.request-log.redact-params:token,accessToken,refreshToken,password,code}") String[] redactedParams) {
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+        this.slowThresholdMillis = slowThresholdMillis;
+        this.redactedHeaders = toLowerCaseSet(redactedHeaders);
+        this.redactedParams = toLowerCaseSet(redactedParams);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (!enabled) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        Throwable failure = null;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            if (failure == null && request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AccessLogAsyncListener(request, response, startNanos));
+            } else {
+                logAccess(request, response, startNanos, failure);
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("headers {}", headers(request));
+            }
+        }
+    }
+
+    private void logAccess(HttpServletRequest request, HttpServletResponse response, long startNanos, Throwable failure) {
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        int status = failure != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+
+        if (shouldLog(status, durationMillis)) {
+            log.info(accessLog(request, status, durationMillis, failure));
+        }
+    }
+
+    /**
+     * 비동기 처리 종료 시 액세스 로그 기록 (완료, 에러, 타임아웃 중 한 번만)
+     */
+    private final class AccessLogAsyncListener implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final long startNanos;
+        private Throwable failure;
+
+        private AccessLogAsyncListener(HttpServletRequest request, HttpServletResponse response, long startNanos) {
+            this.request = request;
+            this.response = response;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            logAccess(request, response, startNanos, failure);
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // onError 뒤에도 onComplete 가 호출되므로 원인만 기록해 둠
+            failure = event.getThrowable();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            failure = new AsyncTimeoutException();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 비동기 처리가 다시 시작되면 새 AsyncContext 에 이어서 등록
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    /**
+     * 비동기 요청 타임아웃 표시용 (로그의 error 값)
+     */
+    private static final class AsyncTimeoutException extends RuntimeException {
+        private AsyncTimeoutException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * 로그 기록 여부 (에러/느린 요청은 샘플링과 관계없이 기록)
+     */
+    private boolean shouldLog(int status, long durationMillis) {
+        if (status >= 500 || durationMillis >= slowThresholdMillis || sampleRate >= 1.0) {
+            return true;
+        }
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private String accessLog(HttpServletRequest request, int status, long durationMillis, Throwable failure) {
+        StringBuilder line = new StringBuilder(128)
+                .append("method=").append(request.getMethod())
+                .append(" uri=").append(request.getRequestURI());
+
+        String query = request.getQueryString();
+        if (query != null) {
+            line.append(" query=").append(redactQuery(query));
+        }
+
+        line.append(" status=").append(status)
+                .append(" durationMs=").append(durationMillis)
+                .append(" remote=").append(request.getRemoteAddr());
+
+        if (failure != null) {
+            line.append(" error=").append(failure.getClass().getSimpleName());
+        }
+        return line.toString();
+    }
+
+    /**
+     * 쿼리 스트링의 민감한 파라미터 값 마스킹 (예: token=abc -> token=***)
+     */
+    private String redactQuery(String query) {
+        StringBuilder result = new StringBuilder(query.length());
+        for (String pair : query.split("&")) {
+            if (result.length() > 0) {
+                result.append('&');
+            }
+            int separator = pair.indexOf('=');
+            String name = separator >= 0 ? pair.substring(0, separator) : pair;
+            if (separator >= 0 && redactedParams.contains(name.toLowerCase(Locale.ROOT))) {
+                result.append(name).append('=').append(REDACTED);
+            } else {
+                result.append(pair);
+            }
+        }
+        return result.toString();
+    }
+
+    private String headers(HttpServletRequest request) {
+        StringBuilder result = new StringBuilder("{");
+        Enumeration<String> headerNames = request.getHeaderNames();
+        while (headerNames.hasMoreElements()) {
+            String name = headerNames.nextElement();
+            if (result.length() > 1) {
+                result.append(", ");
+            }
+            result.append(name).append('=')
+                    .append(redactedHeaders.contains(name.toLowerCase(Locale.ROOT)) ? REDACTED : request.getHeader(name));
+        }
+        return result.append('}').toString();
+    }
+
+    private static Set<String> toLowerCaseSet(String[] values) {
+        return Stream.of(values)
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .map(value -> value.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
@@ -0,0 +1,59 @@
+package com.project.daycheck.config.security;
+
+import com.project.daycheck.entity.Member;
+import com.project.daycheck.exception.BusinessException;
+import com.project.daycheck.exception.ErrorCode;
+import com.project.daycheck.service.MemberService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 현재 인증된 사용자의 회원 ID 조회
+ * 1. 토큰의 memberId 클레임 (DB 조회 없음)
+ * 2. 클레임이 없는 이전 토큰이면 이메일로 조회하되, 요청당 한 번만 조회하도록 요청 속성에 보관
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentMemberResolver {
+
+    private static final String MEMBER_ID_ATTRIBUTE = CurrentMemberResolver.class.getName() + ".MEMBER_ID";
+
+    private final MemberService memberService;
+
+    /**
+     * 현재 인증된 사용자의 ID를 가져옴
+     */
+    public Long getCurrentMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED_ACCESS);
+        }
+
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof MemberPrincipal memberPrincipal && memberPrincipal.getMemberId() != null) {
+            return memberPrincipal.getMemberId();
+        }
+        if (principal instanceof Member member && member.getId() != null) {
+            return member.getId();
+        }
+
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            Object cached = requestAttributes.getAttribute(MEMBER_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (cached instanceof Long memberId) {
+                return memberId;
+            }
+        }
+
+        Long memberId = memberService.findMemberByEmail(authentication.getName()).getId();
+
+        if (requestAttributes != null) {
+            requestAttributes.setAttribute(MEMBER_ID_ATTRIBUTE, memberId, RequestAttributes.SCOPE_REQUEST);
+        }
+        return memberId;
+    }
+}
@@ -0,0 +1,108 @@
+package com.project.daycheck.config.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증된 JWT 인증 정보 캐시
+ * 같은 토큰으로 들어오는 요청마다 서명 검증(HMAC)과 인증 정보 생성을 반복하지 않도록 함
+ * 키는 토큰 원문 대신 SHA-256 다이제스트를 사용하고, 항목은 토큰의 exp 시각에 만료됨
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private static final String CACHE_NAME = "jwtAuthentication";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, CachedAuthentication> cache;
+
+    public JwtAuthenticationCache(
+            JwtTokenProvider jwtTokenProvider,
+            MeterRegistry meterRegistry,
+            @Value("${spring.jwt.cache.maximum-size:10000}") long maximumSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        // cache.gets{result=hit|miss} 등으로 적중률 확인
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 토큰의 인증 정보 조회 (캐시에 없으면 검증 후 저장)
+     * @param token JWT 토큰
+     * @return 인증 정보, 유효하지 않은 토큰이면 null
+     */
+    public Authentication getAuthentication(String token) {
+        String key = digest(token);
+
+        CachedAuthentication cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached.authentication();
+        }
+
+        Claims claims = jwtTokenProvider.verifyClaims(token);
+        if (claims == null) {
+            return null; // 유효하지 않은 토큰은 캐시하지 않음
+        }
+
+        Authentication authentication = jwtTokenProvider.getAuthentication(claims, token);
+
+        Date expiration = claims.getExpiration();
+        if (expiration != null) {
+            cache.put(key, new CachedAuthentication(authentication, expiration.getTime()));
+        }
+        return authentication;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record CachedAuthentication(Authentication authentication, long expiresAtMillis) {
+    }
+
+    /**
+     * 항목별 만료 시간 = 토큰 exp 까지 남은 시간
+     */
+    private static class TokenExpiry implements Expiry<String, CachedAuthentication> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -2,14 +2,15 @@ package com.project.daycheck.config.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
+import com.project.daycheck.entity.Member;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SecurityException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
@@ -23,7 +24,10 @@ import java.util.stream.Collectors;
 @Component
 public class JwtTokenProvider {
 
+    private static final String MEMBER_ID_CLAIM = "memberId";
+
     private final Key key;
+    private final JwtParser jwtParser; // 스레드 안전하므로 하나만 만들어 재사용
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
 
@@ -43,6 +47,9 @@ public class JwtTokenProvider {
 //         this.key = Keys.secretKeyFor(SignatureAlgorithm.HS512); // 매번 새로운 키 생성
         // 2025.04.11 수정 application.yml 파일 읽음.
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build();
 
         this.accessTokenValidityInMilliseconds = accessTokenValidityInSeconds * 1000;
         this.refreshTokenValidityInMilliseconds = refreshTokenValidityInSeconds * 1000;
@@ -64,6 +71,7 @@ public class JwtTokenProvider {
         return Jwts.builder()
                 .setSubject(authentication.getName())
                 .claim("auth", authorities)
+                .claim(MEMBER_ID_CLAIM, resolveMemberId(authentication))
                 .claim("tokenType", "access")
                 .setIssuedAt(now)
                 .setExpiration(validity)
@@ -82,6 +90,7 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .setSubject(authentication.getName())
+                .claim(MEMBER_ID_CLAIM, resolveMemberId(authentication))
                 .claim("tokenType", "refresh")
                 .setIssuedAt(now)
                 .setExpiration(validity)
@@ -95,8 +104,16 @@ public class JwtTokenProvider {
      * @return 인증 정보
      */
     public Authentication getAuthentication(String token) {
-        Claims claims = parseClaims(token);
+        return getAuthentication(parseClaims(token), token);
+    }
 
+    /**
+     * 이미 검증된 클레임으로 인증 정보 생성
+     * @param claims 토큰 클레임
+     * @param token JWT 토큰
+     * @return 인증 정보
+     */
+    public Authentication getAuthentication(Claims claims, String token) {
         Collection<? extends GrantedAuthority> authorities;
 
         // 액세스 토큰의 경우 권한 정보 포함
@@ -110,40 +127,59 @@ public class JwtTokenProvider {
             authorities = Arrays.asList(new SimpleGrantedAuthority("ROLE_USER"));
         }
 
-        UserDetails principal = User.builder()
-                .username(claims.getSubject())
-                .password("")
-                .authorities(authorities)
-                .build();
+        // memberId 클레임이 있으면 principal 에 보관 (이전에 발급된 토큰은 null)
+        Object memberIdClaim = claims.get(MEMBER_ID_CLAIM);
+        Long memberId = memberIdClaim instanceof Number number ? number.longValue() : null;
+
+        UserDetails principal = new MemberPrincipal(claims.getSubject(), memberId, authorities);
 
         return new UsernamePasswordAuthenticationToken(principal, token, authorities);
     }
 
+    /**
+     * 인증 정보에서 회원 ID 추출 (로그인 시 Member, 토큰 갱신 시 MemberPrincipal)
+     */
+    private Long resolveMemberId(Authentication authentication) {
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof Member member) {
+            return member.getId();
+        }
+        if (principal instanceof MemberPrincipal memberPrincipal) {
+            return memberPrincipal.getMemberId();
+        }
+        return null;
+    }
+
     /**
      * 토큰 유효성 검증
      * @param token JWT 토큰
      * @return 유효성 여부
      */
     public boolean validateToken(String token) {
+        return verifyClaims(token) != null;
+    }
+
+    /**
+     * 토큰 서명과 만료를 검증하고 클레임 반환
+     * @param token JWT 토큰
+     * @return 클레임 정보, 유효하지 않으면 null
+     */
+    public Claims verifyClaims(String token) {
+        // 유효하지 않은 토큰은 정상적인 요청 흐름이므로 스택 트레이스 없이 debug 로만 남김
         try {
-            log.debug("토큰 검증 시도: {}", token);
-            log.debug("사용된 서명 키 길이: {} 바이트", key.getEncoded().length);
-
-            Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (SecurityException | MalformedJwtException e) {
-            log.error("잘못된 JWT 서명입니다.", e);
+            log.debug("잘못된 JWT 서명입니다. {}", e.getMessage());
         } catch (ExpiredJwtException e) {
-            log.error("만료된 JWT 토큰입니다.", e);
+            log.debug("만료된 JWT 토큰입니다. {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
-            log.error("지원되지 않는 JWT 토큰입니다.", e);
+            log.debug("지원되지 않는 JWT 토큰입니다. {}", e.getMessage());
         } catch (IllegalArgumentException e) {
-            log.error("JWT 토큰이 잘못되었습니다.", e);
+            log.debug("JWT 토큰이 잘못되었습니다. {}", e.getMessage());
+        } catch (JwtException e) {
+            log.debug("JWT 토큰 검증에 실패했습니다. {}", e.getMessage());
         }
-        return false;
+        return null;
     }
 
     /**
@@ -153,11 +189,7 @@ public class JwtTokenProvider {
      */
     private Claims parseClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return jwtParser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             // 만료된 토큰에서도 클레임 정보는 추출 가능
             return e.getClaims();
@@ -0,0 +1,23 @@
+package com.project.daycheck.config.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * JWT 인증 사용자 정보
+ * 토큰의 memberId 클레임을 함께 보관하여 요청마다 회원을 다시 조회하지 않도록 함
+ * 컨트롤러에서는 @AuthenticationPrincipal MemberPrincipal 로 주입받을 수 있음
+ */
+@Getter
+public class MemberPrincipal extends User {
+
+    private final Long memberId; // memberId 클레임이 없는 이전 토큰이면 null
+
+    public MemberPrincipal(String username, Long memberId, Collection<? extends GrantedAuthority> authorities) {
+        super(username, "", authorities);
+        this.memberId = memberId;
+    }
+}
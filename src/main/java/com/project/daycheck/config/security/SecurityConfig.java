@@ -1,5 +1,6 @@
 package com.project.daycheck.config.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -24,7 +25,7 @@ import java.util.Arrays;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
 
@@ -48,6 +49,8 @@ public class SecurityConfig {
 
               // 요청 권한 설정
               .authorizeHttpRequests(authorize -> authorize
+                      // 스트리밍 응답 완료 후의 비동기 디스패치 (원래 요청에서 이미 인증/인가됨)
+                      .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                       .requestMatchers("/api/auth/**").permitAll()
                       .requestMatchers("/api/admin/**").hasRole("ADMIN")
                       .requestMatchers("/api/members/**").authenticated()
@@ -60,7 +63,7 @@ public class SecurityConfig {
               .formLogin(AbstractHttpConfigurer::disable)
 
               // JWT 필터 추가
-              .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider),
+              .addFilterBefore(new JwtAuthenticationFilter(jwtAuthenticationCache),
                       UsernamePasswordAuthenticationFilter.class)
 
               .build();
@@ -82,7 +85,8 @@ public class SecurityConfig {
         configuration.setAllowedMethods(Arrays.asList(
                 "GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"
         ));
-        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "X-Requested-With"));
+        configuration.setAllowedHeaders(Arrays.asList("Authorization", "Content-Type", "X-Requested-With", "If-None-Match"));
+        configuration.setExposedHeaders(Arrays.asList("ETag")); // 조건부 조회(304)용
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
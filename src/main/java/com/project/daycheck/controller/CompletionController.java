@@ -1,9 +1,11 @@
 package com.project.daycheck.controller;
 
 import com.project.daycheck.dto.CompletionHistoryDTO;
+import com.project.daycheck.dto.CompletionStatsDTO;
 import com.project.daycheck.dto.request.CompletionToggleRequest;
 import com.project.daycheck.entity.CompletionHistory;
 import com.project.daycheck.service.CompletionHistoryService;
+import com.project.daycheck.service.ScheduleQueryService;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +24,7 @@ import java.util.List;
 public class CompletionController {
 
     private final CompletionHistoryService completionHistoryService;
+    private final ScheduleQueryService scheduleQueryService;
 
 
     @Operation(summary = "일정 완료 상태 토글", description = "일반 또는 반복 일정의 완료 상태를 토글합니다.")
@@ -47,6 +50,30 @@ public class CompletionController {
         return ResponseEntity.ok(completions);
     }
 
+    @Operation(summary = "기간별 완료 이력 조회", description = "기간 내 모든 일정 완료 이력을 한 번에 조회합니다.")
+    @GetMapping("/range")
+    public ResponseEntity<List<CompletionHistoryDTO>> getCompletionByDateRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        List<CompletionHistoryDTO> completions = completionHistoryService.getCompletionByDateRange(from, to);
+
+        return ResponseEntity.ok(completions);
+    }
+
+    @Operation(summary = "일정 완료 통계", description = "기간 내 일정의 완료율과 연속 완료 횟수를 조회합니다.")
+    @GetMapping("/schedule/{id}/stats")
+    public ResponseEntity<CompletionStatsDTO> getCompletionStats(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") Boolean isRecurring,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        CompletionStatsDTO stats = scheduleQueryService.getCompletionStats(id, isRecurring, from, to);
+
+        return ResponseEntity.ok(stats);
+    }
+
     @Operation(summary = "일정별 완료 이력 조회", description = "특정 일정의 모든 완료 이력을 조회합니다.")
     @GetMapping("/schedule/{id}")
     public ResponseEntity<List<CompletionHistoryDTO>> getCompletionsBySchedule(
@@ -0,0 +1,92 @@
+package com.project.daycheck.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * NDJSON(application/x-ndjson) 응답 기록기
+ * 항목을 만들어지는 대로 한 줄에 하나씩 직렬화해 응답 스트림에 기록 (전체 목록이나 응답 본문을 메모리에 모으지 않음)
+ * FLUSH_INTERVAL 개마다 소켓으로 내보내므로 클라이언트는 첫 줄부터 바로 받을 수 있음
+ */
+@Component
+public class NdjsonWriter {
+
+    private static final int FLUSH_INTERVAL = 256;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter objectWriter;
+
+    public NdjsonWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        // 항목마다 flush 하지 않고 FLUSH_INTERVAL 개마다 한 번만 flush
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * 스트림의 항목을 모두 기록
+     * @return 기록한 줄 수
+     */
+    public long write(OutputStream out, Stream<?> items) throws IOException {
+        try (Lines lines = open(out)) {
+            items.forEach(lines);
+            return lines.count();
+        }
+    }
+
+    /**
+     * 줄 단위 기록기 열기 (닫아도 응답 스트림은 닫지 않음)
+     */
+    public Lines open(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        return new Lines(generator, objectWriter);
+    }
+
+    /**
+     * 항목 하나를 JSON 한 줄로 기록 (Consumer 로 넘길 수 있도록 IOException 은 UncheckedIOException 으로 감쌈)
+     */
+    public static final class Lines implements Consumer<Object>, Closeable {
+
+        private final JsonGenerator generator;
+        private final ObjectWriter objectWriter;
+        private long count;
+
+        private Lines(JsonGenerator generator, ObjectWriter objectWriter) {
+            this.generator = generator;
+            this.objectWriter = objectWriter;
+        }
+
+        @Override
+        public void accept(Object item) {
+            try {
+                objectWriter.writeValue(generator, item);
+                generator.writeRaw('\n');
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        public long count() {
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+}
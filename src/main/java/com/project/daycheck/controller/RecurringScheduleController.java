@@ -1,22 +1,29 @@
 package com.project.daycheck.controller;
 
 import com.project.daycheck.dto.RecurringExceptionDTO;
+import com.project.daycheck.dto.RecurringOccurrencePageDTO;
 import com.project.daycheck.dto.RecurringScheduleDTO;
 import com.project.daycheck.dto.ScheduleDTO;
 import com.project.daycheck.dto.request.RecurringExceptionRequest;
 import com.project.daycheck.dto.request.RecurringScheduleRequest;
 import com.project.daycheck.service.RecurringScheduleService;
+import com.project.daycheck.service.calendar.MemberDataVersion;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Tag(name = "반복 일정 관리 컨트롤러", description = "반복 일정 관리 API")
 @Slf4j
@@ -26,13 +33,24 @@ import java.util.List;
 public class RecurringScheduleController {
 
     private final RecurringScheduleService recurringScheduleService;
+    private final MemberDataVersion memberDataVersion;
+    private final NdjsonWriter ndjsonWriter;
 
+    // 회원 데이터 버전이 그대로면 조회 없이 304 응답 (If-None-Match)
     @Operation(summary = "반복 일정 목록 조회", description = "모든 반복 일정 패턴 조회")
     @GetMapping
-    public ResponseEntity<List<RecurringScheduleDTO>> getAllRecurringSchedules() {
+    public ResponseEntity<List<RecurringScheduleDTO>> getAllRecurringSchedules(WebRequest webRequest) {
+        String eTag = memberDataVersion.currentETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null; // 304 응답은 checkNotModified 에서 설정됨
+        }
+
         log.info("반복 일정 목록 조회");
         List<RecurringScheduleDTO> recurringSchedules = recurringScheduleService.getAllRecurringSchedules();
-        return ResponseEntity.ok(recurringSchedules);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(recurringSchedules);
     }
 
     @Operation(summary = "반복 일정 상세 조회", description = "특정 반복 일정 패턴 조회")
@@ -62,6 +80,32 @@ public class RecurringScheduleController {
         return ResponseEntity.ok(schedules);
     }
 
+    // 패턴/예외 조회는 요청 스레드에서 끝내고, 발생은 응답을 쓰면서 하나씩 전개 (기간 길이와 무관하게 메모리 사용량이 일정함)
+    @Operation(summary = "기간별 반복 일정 스트리밍 조회", description = "특정 기간 내 모든 반복 일정을 시간 순서로 NDJSON(한 줄에 일정 하나)으로 조회")
+    @GetMapping(value = "/range/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamRecurringSchedulesByDateRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        log.info("기간별 반복 일정 스트리밍 조회: {} ~ {}", startDate, endDate);
+        Stream<ScheduleDTO> schedules = recurringScheduleService.streamRecurringSchedules(startDate, endDate);
+        StreamingResponseBody body = out -> ndjsonWriter.write(out, schedules);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @Operation(summary = "기간별 반복 일정 발생 페이지 조회", description = "특정 기간 내 반복 일정 발생을 시간 순서로 limit 개씩 조회 (다음 페이지는 nextCursor 를 after 로 전달)")
+    @GetMapping("/occurrences")
+    public ResponseEntity<RecurringOccurrencePageDTO> getRecurringOccurrencePage(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "100") int limit) {
+        log.info("기간별 반복 일정 발생 페이지 조회: {} ~ {}, after={}, limit={}", startDate, endDate, after, limit);
+        RecurringOccurrencePageDTO page = recurringScheduleService.getRecurringOccurrencePage(startDate, endDate, after, limit);
+        return ResponseEntity.ok(page);
+    }
+
     @Operation(summary = "반복 일정 생성", description = "새로운 반복 일정 패턴 생성")
     @PostMapping
     public ResponseEntity<RecurringScheduleDTO> createRecurringSchedule(@Valid @RequestBody RecurringScheduleRequest request) {
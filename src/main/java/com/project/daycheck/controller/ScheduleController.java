@@ -4,17 +4,23 @@ import com.project.daycheck.dto.ScheduleDTO;
 import com.project.daycheck.dto.request.ScheduleRequest;
 import com.project.daycheck.service.ScheduleQueryService;
 import com.project.daycheck.service.ScheduleService;
+import com.project.daycheck.service.calendar.MemberDataVersion;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @Tag(name = "일반 일정 관리 컨트롤러", description = "일반 일저 관리 API")
 @Slf4j
@@ -25,15 +31,52 @@ public class ScheduleController {
 
     private final ScheduleService scheduleService;
     private final ScheduleQueryService scheduleQueryService;
+    private final MemberDataVersion memberDataVersion;
+    private final NdjsonWriter ndjsonWriter;
+
+    // 기간 일정 조회 (월간/주간 달력)
+    @Operation(summary = "기간 일정 조회", description = "로그인한 사용자의 기간 내 일정(일반 + 반복)을 날짜별로 조회한다.")
+    @GetMapping("/range")
+    public ResponseEntity<Map<LocalDate, List<ScheduleDTO>>> getSchedulesByDateRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Map<LocalDate, List<ScheduleDTO>> schedules = scheduleQueryService.getAllSchedulesByDateRange(from, to);
+        return ResponseEntity.ok(schedules);
+    }
+
+    // 전체 일정 스트리밍 조회 (내보내기)
+    // 일정을 ID 순 페이지로 읽어 한 줄씩 기록하므로 일정 수와 무관하게 메모리 사용량이 일정하고, 기록하는 동안 커넥션을 잡고 있지 않음
+    @Operation(summary = "전체 일정 스트리밍 조회", description = "로그인한 사용자의 모든 일반 일정을 NDJSON(한 줄에 일정 하나)으로 조회한다.")
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllSchedules() {
+        StreamingResponseBody body = out -> {
+            try (NdjsonWriter.Lines lines = ndjsonWriter.open(out)) {
+                scheduleService.forEachSchedule(lines);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
 
     // 특정 날짜 일정 조회
+    // 회원 데이터 버전이 그대로면 일정 조회 없이 304 응답 (If-None-Match)
     @Operation(summary = "일정 조회", description = "로그인한 사용자의 특정 날짜 일정을 조회한다.")
     @GetMapping("/{date}")
     public ResponseEntity<List<ScheduleDTO>> getSchedulesByDate(
-            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest webRequest) {
+        String eTag = memberDataVersion.currentETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null; // 304 응답은 checkNotModified 에서 설정됨
+        }
+
 //        List<ScheduleDTO> schedules = scheduleService.getScheduleByDate(date);
         List<ScheduleDTO> schedules = scheduleQueryService.getAllSchedulesByDate(date);
-        return ResponseEntity.ok(schedules);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(schedules);
     }
 
     // 일정 등록
@@ -0,0 +1,34 @@
+package com.project.daycheck.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 일정 완료 통계 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompletionStatsDTO {
+
+    private Long scheduleId;
+    private Boolean isRecurring;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate from;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    private LocalDate to;
+
+    private int totalOccurrences;     // 기간 내 발생 횟수 (반복: 발생일 수, 일반: 걸쳐 있는 일 수)
+    private int completedOccurrences; // 완료한 횟수
+    private double completionRate;    // 완료율 (0.0 ~ 1.0)
+    private int currentStreak;        // min(to, 오늘) 이전 마지막 발생일부터 거꾸로 연속 완료한 횟수 (아직 완료하지 않은 오늘은 제외)
+    private int longestStreak;        // 기간 내 최장 연속 완료 횟수
+}
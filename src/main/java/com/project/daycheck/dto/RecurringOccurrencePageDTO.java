@@ -0,0 +1,21 @@
+package com.project.daycheck.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 반복 일정 발생 페이지 DTO (시간 순서)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecurringOccurrencePageDTO {
+
+    private List<ScheduleDTO> schedules;
+    private String nextCursor; // 다음 페이지 요청의 after 값 (마지막 페이지면 null)
+}
@@ -1,15 +1,14 @@
 package com.project.daycheck.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.project.daycheck.entity.DayOfWeekMask;
 import com.project.daycheck.entity.RecurringSchedule;
-import com.project.daycheck.entity.RecurringScheduleDay;
 import lombok.*;
 
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  *  반복 일정 DTO
@@ -58,6 +57,7 @@ public class RecurringScheduleDTO {
                 .endTime(endTime)
                 .priority(priority)
                 .description(description)
+                .daysMask(DayOfWeekMask.of(daysOfWeek))
                 .scheduleDays(new ArrayList<>())
                 .build();
 
@@ -66,10 +66,8 @@ public class RecurringScheduleDTO {
 
     // Entity에서 DTO 변환 정적 메소드
     public static RecurringScheduleDTO fromEntity(RecurringSchedule recurringSchedule) {
-        // 요일 정보 추출
-        List<DayOfWeek> daysOfWeek = recurringSchedule.getScheduleDays().stream()
-                .map(RecurringScheduleDay::getDayOfWeek)
-                .collect(Collectors.toList());
+        // 요일 정보 추출 (days_mask, 조인 없음)
+        List<DayOfWeek> daysOfWeek = recurringSchedule.getDaysOfWeek();
 
         return RecurringScheduleDTO.builder()
                 .id(recurringSchedule.getId())
@@ -10,7 +10,7 @@ import java.util.List;
 
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ScheduleDTO {
@@ -8,7 +8,14 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
-@Table(name = "schedule_completion_history")
+@Table(name = "schedule_completion_history", indexes = {
+        @Index(name = "idx_completion_schedule_date_recurring", columnList = "schedule_id, completion_date, is_recurring"),
+        @Index(name = "idx_completion_date_member", columnList = "completion_date, member_id"),
+        @Index(name = "idx_completion_member_date", columnList = "member_id, completion_date")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_completion_member_schedule_date",
+                columnNames = {"member_id", "schedule_id", "is_recurring", "completion_date"})
+})
 @Entity
 @Getter
 @Builder
@@ -40,12 +47,4 @@ public class CompletionHistory {
 
     @UpdateTimestamp
     private LocalDateTime updatedAt;
-
-    /**
-     * 완료 상태 토글 메서드
-     */
-    public boolean toggleCompleted(){
-        this.completed = !this.completed;
-        return this.completed;
-    }
 }
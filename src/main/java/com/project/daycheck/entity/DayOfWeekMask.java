@@ -0,0 +1,62 @@
+package com.project.daycheck.entity;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 요일 집합을 7비트 정수로 표현 (bit0 = 월요일 ... bit6 = 일요일)
+ * 반복 일정 요일을 recurring_schedule_day 행 대신 recurring_schedule.days_mask 한 컬럼에 저장할 때 사용
+ */
+public final class DayOfWeekMask {
+
+    public static final int EMPTY = 0;
+
+    private DayOfWeekMask() {
+    }
+
+    /**
+     * 요일의 비트
+     */
+    public static int bit(DayOfWeek dayOfWeek) {
+        return 1 << (dayOfWeek.getValue() - 1);
+    }
+
+    /**
+     * 요일 목록을 비트마스크로 변환 (null 이면 빈 마스크)
+     */
+    public static int of(Collection<DayOfWeek> days) {
+        int mask = EMPTY;
+        if (days != null) {
+            for (DayOfWeek day : days) {
+                mask |= bit(day);
+            }
+        }
+        return mask;
+    }
+
+    public static boolean contains(int mask, DayOfWeek dayOfWeek) {
+        return (mask & bit(dayOfWeek)) != 0;
+    }
+
+    /**
+     * 비트마스크를 요일 목록으로 변환 (월요일부터 순서대로)
+     */
+    public static List<DayOfWeek> toList(int mask) {
+        List<DayOfWeek> days = new ArrayList<>(Integer.bitCount(mask));
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (contains(mask, day)) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+
+    /**
+     * 가장 앞선 요일 (빈 마스크면 null)
+     */
+    public static DayOfWeek first(int mask) {
+        return mask == EMPTY ? null : DayOfWeek.of(Integer.numberOfTrailingZeros(mask) + 1);
+    }
+}
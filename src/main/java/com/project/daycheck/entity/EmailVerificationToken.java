@@ -12,6 +12,7 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@Table(indexes = @Index(name = "idx_email_verification_token_email_code", columnList = "email, code"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class EmailVerificationToken extends BaseTimeEntity{
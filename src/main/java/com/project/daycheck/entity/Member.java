@@ -13,6 +13,7 @@ import java.util.Collection;
 import java.util.Collections;
 
 @Entity
+@Table(indexes = @Index(name = "uk_member_email", columnList = "email", unique = true))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Member extends BaseTimeEntity implements UserDetails {
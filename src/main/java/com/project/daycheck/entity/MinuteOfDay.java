@@ -0,0 +1,76 @@
+package com.project.daycheck.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 하루 중 분(0 ~ 1439)으로 표현한 시간 ("HH:mm" 문자열 대신 저장/계산에 사용)
+ * 반복 일정 발생일마다 시간 문자열을 파싱하지 않도록 엔티티에 미리 변환해 둔 값을 사용
+ */
+public final class MinuteOfDay {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    // 분 단위 LocalTime 은 1440개뿐이므로 미리 만들어 두고 재사용
+    private static final LocalTime[] TIMES = new LocalTime[MINUTES_PER_DAY];
+
+    static {
+        for (int minute = 0; minute < MINUTES_PER_DAY; minute++) {
+            TIMES[minute] = LocalTime.of(minute / 60, minute % 60);
+        }
+    }
+
+    private MinuteOfDay() {
+    }
+
+    /**
+     * "HH:mm" 문자열을 하루 중 분으로 변환
+     * @return 분, 문자열이 null 이면 null
+     * @throws DateTimeParseException 형식이 맞지 않는 경우 (LocalTime.parse 와 같은 예외)
+     */
+    public static Integer parse(String time) {
+        if (time == null) {
+            return null;
+        }
+
+        if (time.length() != 5 || time.charAt(2) != ':'
+                || !isDigit(time, 0) || !isDigit(time, 1) || !isDigit(time, 3) || !isDigit(time, 4)) {
+            throw new DateTimeParseException("시간 형식(HH:mm)이 올바르지 않습니다: " + time, time, 0);
+        }
+
+        int hour = (time.charAt(0) - '0') * 10 + (time.charAt(1) - '0');
+        int minute = (time.charAt(3) - '0') * 10 + (time.charAt(4) - '0');
+        if (hour == 24 && minute == 0) {
+            return 0; // LocalTime.parse(SMART) 와 같이 "24:00" 은 자정으로 처리
+        }
+        if (hour > 23 || minute > 59) {
+            throw new DateTimeParseException("시간 범위가 올바르지 않습니다: " + time, time, 0);
+        }
+        return hour * 60 + minute;
+    }
+
+    /**
+     * 형식이 맞지 않으면 예외 대신 null 반환 (엔티티 저장 시 변환용)
+     */
+    public static Integer parseOrNull(String time) {
+        try {
+            return parse(time);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 날짜와 하루 중 분을 결합
+     */
+    public static LocalDateTime atDate(LocalDate date, int minuteOfDay) {
+        return LocalDateTime.of(date, TIMES[minuteOfDay]);
+    }
+
+    private static boolean isDigit(String value, int index) {
+        char c = value.charAt(index);
+        return c >= '0' && c <= '9';
+    }
+}
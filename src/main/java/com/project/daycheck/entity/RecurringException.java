@@ -13,6 +13,7 @@ import java.time.LocalDateTime;
  * 특정 날짜에 반복 일정을 건너뛰거나 수정하는 데 사용
  */
 @Entity
+@Table(indexes = @Index(name = "uk_recurring_exception_schedule_date", columnList = "recurring_schedule_id, exception_date", unique = true))
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -46,6 +47,12 @@ public class RecurringException {
     @Column
     private String modifiedEndTime;
 
+    @Column(columnDefinition = "SMALLINT")
+    private Integer modifiedStartMinute; // modifiedStartTime 을 하루 중 분으로 변환한 값
+
+    @Column(columnDefinition = "SMALLINT")
+    private Integer modifiedEndMinute; // modifiedEndTime 을 하루 중 분으로 변환한 값
+
     @Column
     private String modifiedPriority;
 
@@ -79,6 +86,34 @@ public class RecurringException {
     public void updateModifiedTimes(String modifiedStartTime, String modifiedEndTime) {
         this.modifiedStartTime = modifiedStartTime;
         this.modifiedEndTime = modifiedEndTime;
+        this.modifiedStartMinute = MinuteOfDay.parseOrNull(modifiedStartTime);
+        this.modifiedEndMinute = MinuteOfDay.parseOrNull(modifiedEndTime);
+    }
+
+    /**
+     * 수정된 시작 시간 (하루 중 분, 수정하지 않았으면 null)
+     * 아직 저장되지 않아 변환 값이 없으면 modifiedStartTime 으로 계산
+     */
+    public Integer getModifiedStartMinute() {
+        return modifiedStartMinute != null ? modifiedStartMinute : MinuteOfDay.parse(modifiedStartTime);
+    }
+
+    /**
+     * 수정된 종료 시간 (하루 중 분, 수정하지 않았으면 null)
+     * 아직 저장되지 않아 변환 값이 없으면 modifiedEndTime 으로 계산
+     */
+    public Integer getModifiedEndMinute() {
+        return modifiedEndMinute != null ? modifiedEndMinute : MinuteOfDay.parse(modifiedEndTime);
+    }
+
+    /**
+     * 저장 전 수정된 시간 문자열을 하루 중 분으로 변환
+     */
+    @PrePersist
+    @PreUpdate
+    private void syncMinutes() {
+        this.modifiedStartMinute = MinuteOfDay.parseOrNull(modifiedStartTime);
+        this.modifiedEndMinute = MinuteOfDay.parseOrNull(modifiedEndTime);
     }
 
     /**
@@ -0,0 +1,65 @@
+package com.project.daycheck.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 반복 일정 발생일 엔티티
+ * 반복 일정을 조회할 때마다 전개하지 않도록, 일정 기간(horizon) 동안의 발생일을 미리 한 행씩 저장
+ */
+@Entity
+@Table(name = "recurring_occurrence")
+@IdClass(RecurringOccurrence.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RecurringOccurrence implements Persistable<RecurringOccurrence.Key> {
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Id
+    @Column(name = "occurrence_date")
+    private LocalDate occurrenceDate;
+
+    @Id
+    @Column(name = "recurring_schedule_id")
+    private Long recurringScheduleId;
+
+    public RecurringOccurrence(Long memberId, LocalDate occurrenceDate, Long recurringScheduleId) {
+        this.memberId = memberId;
+        this.occurrenceDate = occurrenceDate;
+        this.recurringScheduleId = recurringScheduleId;
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(memberId, occurrenceDate, recurringScheduleId);
+    }
+
+    /**
+     * 발생일은 삭제 후 다시 생성만 하므로 항상 새 엔티티로 저장 (저장 전 SELECT 생략)
+     */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long memberId;
+        private LocalDate occurrenceDate;
+        private Long recurringScheduleId;
+    }
+}
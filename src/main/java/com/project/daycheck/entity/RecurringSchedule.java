@@ -9,6 +9,7 @@ import java.sql.Array;
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -16,7 +17,8 @@ import java.util.List;
  * 특정 패턴으로 반복되는 일정을 나타냄
  */
 @Entity
-@Table(name = "recurring_schedule")
+@Table(name = "recurring_schedule",
+        indexes = @Index(name = "idx_recurring_schedule_member_start", columnList = "member_id, start_date"))
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -61,12 +63,22 @@ public class RecurringSchedule {
     @Column
     private String endTime; // 각 일정의 종료 시간(HH:mm 형식)
 
+    @Column(columnDefinition = "SMALLINT")
+    private Integer startMinute; // startTime 을 하루 중 분으로 변환한 값 (발생일 생성 시 파싱 없이 사용)
+
+    @Column(columnDefinition = "SMALLINT")
+    private Integer endMinute; // endTime 을 하루 중 분으로 변환한 값
+
     @Column
     private String priority; // high, medium, low
 
     @Column(columnDefinition = "TEXT")
     private String description; // 일정 설명
 
+    @Column(name = "days_mask", nullable = false, columnDefinition = "TINYINT")
+    private int daysMask; // 반복 요일 비트마스크 (DayOfWeekMask, bit0 = 월요일)
+
+    // 이전 버전 호환용 요일 행 (days_mask 로 대체, 배포 중에만 함께 기록)
     @OneToMany(mappedBy = "recurringSchedule", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<RecurringScheduleDay> scheduleDays = new ArrayList<>();
 
@@ -83,28 +95,35 @@ public class RecurringSchedule {
      * 요일 추가 메소드
      */
     public void addDay(DayOfWeek dayOfWeek) {
-        RecurringScheduleDay scheduleDay = RecurringScheduleDay.builder()
-                .recurringScheduleId(this.id)
-                .dayOfWeek(dayOfWeek)
-                .build();
-
-        scheduleDays.add(scheduleDay);
-        scheduleDay.setRecurringSchedule(this);
+        daysMask |= DayOfWeekMask.bit(dayOfWeek);
     }
 
     /**
      * 요일 제거 메소드
      */
     public void removeDay(DayOfWeek dayOfWeek) {
-        scheduleDays.removeIf(day -> day.getDayOfWeek() == dayOfWeek);
+        daysMask &= ~DayOfWeekMask.bit(dayOfWeek);
     }
 
     /**
      * 특정 요일이 포함되어 있는지 확인
      */
     public boolean containsDay(DayOfWeek dayOfWeek) {
-        return scheduleDays.stream()
-                .anyMatch(day -> day.getDayOfWeek() == dayOfWeek);
+        return DayOfWeekMask.contains(daysMask, dayOfWeek);
+    }
+
+    /**
+     * 반복 요일 목록 (월요일부터 순서대로)
+     */
+    public List<DayOfWeek> getDaysOfWeek() {
+        return DayOfWeekMask.toList(daysMask);
+    }
+
+    /**
+     * 반복 요일 전체 교체 (null 이면 요일 없음)
+     */
+    public void updateDays(Collection<DayOfWeek> daysOfWeek) {
+        this.daysMask = DayOfWeekMask.of(daysOfWeek);
     }
 
     /**
@@ -150,12 +169,40 @@ public class RecurringSchedule {
     public void updateTimes(String startTime, String endTime) {
         if (startTime != null && !startTime.isBlank()) {
             this.startTime = startTime;
+            this.startMinute = MinuteOfDay.parseOrNull(startTime);
         }
         if (endTime != null && !endTime.isBlank()) {
             this.endTime = endTime;
+            this.endMinute = MinuteOfDay.parseOrNull(endTime);
         }
     }
 
+    /**
+     * 시작 시간 (하루 중 분)
+     * 아직 저장되지 않아 변환 값이 없으면 startTime 으로 계산
+     */
+    public Integer getStartMinute() {
+        return startMinute != null ? startMinute : MinuteOfDay.parse(startTime);
+    }
+
+    /**
+     * 종료 시간 (하루 중 분)
+     * 아직 저장되지 않아 변환 값이 없으면 endTime 으로 계산
+     */
+    public Integer getEndMinute() {
+        return endMinute != null ? endMinute : MinuteOfDay.parse(endTime);
+    }
+
+    /**
+     * 저장 전 시간 문자열을 하루 중 분으로 변환
+     */
+    @PrePersist
+    @PreUpdate
+    private void syncMinutes() {
+        this.startMinute = MinuteOfDay.parseOrNull(startTime);
+        this.endMinute = MinuteOfDay.parseOrNull(endTime);
+    }
+
     /**
      * 반복 간격 수정
      */
@@ -13,7 +13,8 @@ import java.time.LocalDateTime;
  * 반복 일정의 요일 정보를 저장
  */
 @Entity
-@Table(name = "recurring_schedule_day")
+@Table(name = "recurring_schedule_day",
+        indexes = @Index(name = "idx_recurring_schedule_day_schedule_day", columnList = "recurring_schedule_id, day_of_week"))
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
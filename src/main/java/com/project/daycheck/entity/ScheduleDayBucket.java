@@ -0,0 +1,81 @@
+package com.project.daycheck.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 일반 일정 날짜 버킷 엔티티
+ * 일정이 걸쳐 있는 날짜마다 한 행을 두어, 여러 날에 걸친 일정도 (member_id, day_key) 동등 조회로 찾을 수 있게 함
+ * MAX_SPAN_DAYS 일보다 긴 일정은 버킷을 만들지 않고 (schedules.long_span) 기간 겹침 조건으로 따로 조회
+ */
+@Entity
+@Table(name = "schedule_day_bucket")
+@IdClass(ScheduleDayBucket.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ScheduleDayBucket implements Persistable<ScheduleDayBucket.Key> {
+
+    // 일정 하나당 최대 버킷 수 (V13 마이그레이션과 같은 값)
+    public static final int MAX_SPAN_DAYS = 366;
+
+    @Id
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Id
+    @Column(name = "day_key")
+    private LocalDate dayKey;
+
+    @Id
+    @Column(name = "schedule_id")
+    private Long scheduleId;
+
+    public ScheduleDayBucket(Long memberId, LocalDate dayKey, Long scheduleId) {
+        this.memberId = memberId;
+        this.dayKey = dayKey;
+        this.scheduleId = scheduleId;
+    }
+
+    /**
+     * 버킷 없이 조회할 긴 일정인지 (걸쳐 있는 날짜 수가 MAX_SPAN_DAYS 초과)
+     */
+    public static boolean exceedsMaxSpan(LocalDateTime startDate, LocalDateTime endDate) {
+        if (startDate == null || endDate == null) {
+            return false;
+        }
+        return ChronoUnit.DAYS.between(startDate.toLocalDate(), endDate.toLocalDate()) + 1 > MAX_SPAN_DAYS;
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(memberId, dayKey, scheduleId);
+    }
+
+    /**
+     * 버킷은 삭제 후 다시 생성만 하므로 항상 새 엔티티로 저장 (저장 전 SELECT 생략)
+     */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long memberId;
+        private LocalDate dayKey;
+        private Long scheduleId;
+    }
+}
@@ -18,6 +18,7 @@ import static jakarta.persistence.ConstraintMode.*;
  * 일반 일정 엔티티
  */
 @Entity
+@Table(indexes = @Index(name = "idx_schedules_member_period", columnList = "member_id, start_date, end_date"))
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -60,6 +61,9 @@ public class Schedules {
     @Column(columnDefinition = "TEXT")  // TEXT 타입으로 정의
     private String description;  // 설명 필드
 
+    @Column(name = "long_span", nullable = false)
+    private boolean longSpan;  // 날짜 버킷 없이 조회하는 긴 일정 (ScheduleDayBucket.MAX_SPAN_DAYS 초과)
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
@@ -110,5 +114,6 @@ public class Schedules {
         if(endDate != null) {
             this.endDate = endDate;
         }
+        this.longSpan = ScheduleDayBucket.exceedsMaxSpan(this.startDate, this.endDate);
     }
 }
\ No newline at end of file
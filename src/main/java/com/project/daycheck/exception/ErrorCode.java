@@ -37,7 +37,8 @@ public enum ErrorCode {
 
     // 일정 관련 에러
     SCHEDULE_NOT_FOUND(HttpStatus.NOT_FOUND, "S001", "존재하지 않는 일정입니다."),
-    UNAUTHORIZED_SCHEDULE_ACCESS(HttpStatus.FORBIDDEN, "S002", "해당 일정에 접근 권한이 없습니다.");
+    UNAUTHORIZED_SCHEDULE_ACCESS(HttpStatus.FORBIDDEN, "S002", "해당 일정에 접근 권한이 없습니다."),
+    INVALID_DATE_RANGE(HttpStatus.BAD_REQUEST, "S003", "조회 기간이 올바르지 않습니다.");
 
     private final HttpStatus status;
     private final String code;
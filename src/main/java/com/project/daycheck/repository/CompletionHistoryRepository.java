@@ -2,6 +2,9 @@ package com.project.daycheck.repository;
 
 import com.project.daycheck.entity.CompletionHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -11,13 +14,28 @@ import java.util.Optional;
 @Repository
 public interface CompletionHistoryRepository  extends JpaRepository<CompletionHistory, Long> {
 
-    // 특정 날자, 특정 일정(일반/반복)의 완료 이력 조회
-    Optional<CompletionHistory> findByScheduleIdAndCompletionDateAndIsRecurring(
-            Long scheduleId, LocalDate completionDate, Boolean isRecurring);
+    // 완료 상태 토글 (이력이 없으면 완료로 생성, 있으면 반전) - uk_completion_member_schedule_date 기준 원자적 처리
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO schedule_completion_history "
+            + "(member_id, schedule_id, is_recurring, completion_date, completed, create_at, updated_at) "
+            + "VALUES (:memberId, :scheduleId, :isRecurring, :completionDate, TRUE, CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6)) "
+            + "ON DUPLICATE KEY UPDATE completed = NOT completed, updated_at = CURRENT_TIMESTAMP(6)",
+            nativeQuery = true)
+    int toggleCompleted(@Param("memberId") Long memberId,
+                        @Param("scheduleId") Long scheduleId,
+                        @Param("isRecurring") Boolean isRecurring,
+                        @Param("completionDate") LocalDate completionDate);
+
+    // 특정 회원, 특정 날짜, 특정 일정(일반/반복)의 완료 이력 조회
+    Optional<CompletionHistory> findByMemberIdAndScheduleIdAndIsRecurringAndCompletionDate(
+            Long memberId, Long scheduleId, Boolean isRecurring, LocalDate completionDate);
 
     // 특정 날짜의 모든 완료 이력 조회
     List<CompletionHistory> findByCompletionDateAndMemberId(LocalDate completionDate, Long memberId);
 
+    // 기간 내 모든 완료 이력 조회
+    List<CompletionHistory> findByMemberIdAndCompletionDateBetween(Long memberId, LocalDate startDate, LocalDate endDate);
+
     // 특정 일정의 모든 완료 이력 조회
     List<CompletionHistory> findByScheduleIdAndIsRecurringAndMemberId(Long scheduleId, Boolean isRecurring, Long memberId);
 }
@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,9 @@ public interface RecurringExceptionRepository extends JpaRepository<RecurringExc
     // 특정 날짜 범위의 예외 조회
     List<RecurringException> findByRecurringScheduleIdAndExceptionDateBetween(Long recurringScheduleId, LocalDate startDate, LocalDate endDate);
 
+    // 여러 반복 일정의 특정 날짜 범위 예외 조회
+    List<RecurringException> findByRecurringScheduleIdInAndExceptionDateBetween(Collection<Long> recurringScheduleIds, LocalDate startDate, LocalDate endDate);
+
     // 특정 예외 유형의 예외 조회
     List<RecurringException> findByRecurringScheduleIdAndExceptionType(Long recurringScheduleId, String exceptionType);
 
@@ -30,6 +34,13 @@ public interface RecurringExceptionRepository extends JpaRepository<RecurringExc
             "WHERE rs.memberId = :memberId AND e.exceptionDate = :date")
     List<RecurringException> findByMemberIdAndDate(@Param("memberId") Long memberId, @Param("date") LocalDate date);
 
+    // 특정 멤버의 특정 기간 예외 조회
+    @Query("SELECT e FROM RecurringException e JOIN e.recurringSchedule rs " +
+            "WHERE rs.memberId = :memberId AND e.exceptionDate BETWEEN :startDate AND :endDate")
+    List<RecurringException> findByMemberIdAndDateBetween(@Param("memberId") Long memberId,
+                                                          @Param("startDate") LocalDate startDate,
+                                                          @Param("endDate") LocalDate endDate);
+
     // 특정 기간 내 모든 예외 삭제
     void deleteByRecurringScheduleIdAndExceptionDateBetween(Long recurringScheduleId, LocalDate startDate, LocalDate endDate);
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.project.daycheck.repository;
+
+import com.project.daycheck.entity.RecurringOccurrence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RecurringOccurrenceRepository extends JpaRepository<RecurringOccurrence, RecurringOccurrence.Key> {
+
+    // 특정 멤버의 기간 내 발생일 조회 (기본 키 순서: 날짜, 패턴 ID)
+    @Query("SELECT o FROM RecurringOccurrence o " +
+            "WHERE o.memberId = :memberId AND o.occurrenceDate BETWEEN :startDate AND :endDate " +
+            "ORDER BY o.occurrenceDate, o.recurringScheduleId")
+    List<RecurringOccurrence> findByMemberIdAndDateBetween(@Param("memberId") Long memberId,
+                                                           @Param("startDate") LocalDate startDate,
+                                                           @Param("endDate") LocalDate endDate);
+
+    // 패턴들의 기간 내 발생일 삭제
+    @Modifying
+    @Query("DELETE FROM RecurringOccurrence o " +
+            "WHERE o.recurringScheduleId IN :recurringScheduleIds AND o.occurrenceDate BETWEEN :startDate AND :endDate")
+    int deleteByRecurringScheduleIdsAndDateBetween(@Param("recurringScheduleIds") Collection<Long> recurringScheduleIds,
+                                                  @Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate);
+
+    // 패턴의 발생일 전체 삭제
+    @Modifying
+    @Query("DELETE FROM RecurringOccurrence o WHERE o.recurringScheduleId = :recurringScheduleId")
+    int deleteByRecurringScheduleId(@Param("recurringScheduleId") Long recurringScheduleId);
+
+    // 지난 발생일 삭제
+    @Modifying
+    @Query("DELETE FROM RecurringOccurrence o WHERE o.occurrenceDate < :date")
+    int deleteByDateBefore(@Param("date") LocalDate date);
+}
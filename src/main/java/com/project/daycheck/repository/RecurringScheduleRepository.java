@@ -1,7 +1,10 @@
 package com.project.daycheck.repository;
 
 import com.project.daycheck.entity.RecurringSchedule;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -19,6 +22,11 @@ public interface RecurringScheduleRepository extends JpaRepository<RecurringSche
     // ID와 멤버 ID로 특정 반복 일정 조회
     Optional<RecurringSchedule> findByIdAndMemberId(Long id, Long memberId);
 
+    // 패턴 행 배타 잠금 (발생일 재생성 전, 일괄 갱신 페이지와 순서를 맞추기 위해)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT rs FROM RecurringSchedule rs WHERE rs.id = :id")
+    Optional<RecurringSchedule> findByIdForUpdate(@Param("id") Long id);
+
     // 특정 날짜에 적용되는 반복 일정 조회
     @Query("SELECT rs FROM RecurringSchedule rs WHERE " +
             "rs.memberId = :memberId AND " +
@@ -26,6 +34,28 @@ public interface RecurringScheduleRepository extends JpaRepository<RecurringSche
             "(rs.endDate IS NULL OR rs.endDate >= :date)")
     List<RecurringSchedule> findActiveOnDate(@Param("memberId") Long memberId, @Param("date") LocalDateTime date);
 
+    // 특정 기간 중 하루라도 적용되는 반복 일정 조회
+    @Query("SELECT rs FROM RecurringSchedule rs WHERE " +
+            "rs.memberId = :memberId AND " +
+            "rs.startDate <= :endDate AND " +
+            "(rs.endDate IS NULL OR rs.endDate >= :startDate)")
+    List<RecurringSchedule> findActiveInRange(@Param("memberId") Long memberId,
+                                              @Param("startDate") LocalDateTime startDate,
+                                              @Param("endDate") LocalDateTime endDate);
+
+    // 전체 멤버 중 특정 기간에 적용되는 반복 일정을 ID 순으로 나누어 조회 (발생일 테이블 일괄 갱신용)
+    // 공유 잠금으로 페이지 트랜잭션이 끝날 때까지 패턴 수정이 커밋되지 않도록 함 (수정 중인 패턴은 커밋 후에 읽음)
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT rs FROM RecurringSchedule rs WHERE " +
+            "rs.id > :afterId AND " +
+            "rs.startDate <= :endDate AND " +
+            "(rs.endDate IS NULL OR rs.endDate >= :startDate) " +
+            "ORDER BY rs.id")
+    List<RecurringSchedule> findActiveInRangeAfterId(@Param("afterId") Long afterId,
+                                                     @Param("startDate") LocalDateTime startDate,
+                                                     @Param("endDate") LocalDateTime endDate,
+                                                     Pageable pageable);
+
     // 특정 패턴 유형의 반복 일정 조회
     List<RecurringSchedule> findByMemberIdAndPatternType(Long memberId, String patternType);
 
@@ -0,0 +1,17 @@
+package com.project.daycheck.repository;
+
+import com.project.daycheck.entity.ScheduleDayBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ScheduleDayBucketRepository extends JpaRepository<ScheduleDayBucket, ScheduleDayBucket.Key> {
+
+    // 일정의 날짜 버킷 전체 삭제
+    @Modifying
+    @Query("DELETE FROM ScheduleDayBucket b WHERE b.scheduleId = :scheduleId")
+    int deleteByScheduleId(@Param("scheduleId") Long scheduleId);
+}
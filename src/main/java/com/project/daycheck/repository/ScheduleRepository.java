@@ -21,18 +21,34 @@ public interface ScheduleRepository extends JpaRepository<Schedules, Long> {
     Optional<Schedules> findByIdAndMemberId(Long id, Long memberId);
 
     // 특정 멤버의 특정 날짜 범위에 해당하는 일정을 조회합니다.
+    // 기간 겹침 조건 (start <= :endDate AND end >= :startDate) 으로 (member_id, start_date, end_date) 인덱스 범위 스캔
     @Query("SELECT s FROM Schedules s WHERE " +
-            "(" +
-            "   (s.startDate BETWEEN :startDate AND :endDate) OR " +
-            "   (s.endDate BETWEEN :startDate AND :endDate) OR " +
-            "   (s.startDate <= :startDate AND s.endDate >= :endDate)" +
-            ") AND s.memberId = :memberId")
+            "s.memberId = :memberId AND s.startDate <= :endDate AND s.endDate >= :startDate")
     List<Schedules> findSchedulesForDateRangeAndMember(
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate,
             @Param("memberId") Long memberId
     );
 
+    // 날짜 버킷으로 특정 멤버의 기간 내 일정을 조회합니다. (schedule_day_bucket 의 (member_id, day_key) 조회)
+    @Query("SELECT s FROM Schedules s WHERE s.id IN (" +
+            "SELECT b.scheduleId FROM ScheduleDayBucket b " +
+            "WHERE b.memberId = :memberId AND b.dayKey BETWEEN :startDay AND :endDay)")
+    List<Schedules> findSchedulesByDayBucket(
+            @Param("memberId") Long memberId,
+            @Param("startDay") LocalDate startDay,
+            @Param("endDay") LocalDate endDay
+    );
+
+    // 날짜 버킷이 없는 긴 일정 중 기간과 겹치는 일정 조회 (버킷 조회와 함께 사용)
+    @Query("SELECT s FROM Schedules s WHERE " +
+            "s.memberId = :memberId AND s.longSpan = true AND s.startDate <= :endDate AND s.endDate >= :startDate")
+    List<Schedules> findLongSpanSchedulesForDateRangeAndMember(
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("memberId") Long memberId
+    );
+
     // 특정 멤버의 부모 일정 ID로 하위 일정들을 조회 - version1
 //    List<Schedules> findByParentScheduleIdAndMemberId(Long parentScheduleId, Long memberId);
 
@@ -1,22 +1,26 @@
 package com.project.daycheck.service;
 
+import com.project.daycheck.config.security.CurrentMemberResolver;
 import com.project.daycheck.dto.CompletionHistoryDTO;
 import com.project.daycheck.entity.CompletionHistory;
-import com.project.daycheck.entity.Member;
-import com.project.daycheck.exception.BusinessException;
-import com.project.daycheck.exception.ErrorCode;
 import com.project.daycheck.repository.CompletionHistoryRepository;
+import com.project.daycheck.service.calendar.DayViewCache;
+import com.project.daycheck.service.calendar.MemberDataVersion;
+import com.project.daycheck.service.completion.CompletionBits;
+import com.project.daycheck.service.completion.CompletionIndexCache;
+import com.project.daycheck.service.completion.CompletionWriteBuffer;
+import com.project.daycheck.service.completion.MemberCompletionIndex;
+import com.project.daycheck.service.completion.PendingCompletion;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,23 +29,27 @@ import java.util.stream.Collectors;
 public class CompletionHistoryService {
 
     private final CompletionHistoryRepository completionHistoryRepository;
-    private final MemberService memberService;
+    private final CurrentMemberResolver currentMemberResolver;
+    private final CompletionIndexCache completionIndexCache;
+    private final CompletionWriteBuffer completionWriteBuffer;
+    private final DayViewCache dayViewCache;
+    private final MemberDataVersion memberDataVersion;
 
     /**
      * 현재 인증된 사용자의 ID를 가져옴
      */
     private Long getCurrentMemberId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if(authentication == null || !authentication.isAuthenticated()){
-            throw new BusinessException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
-
-        Member member = memberService.findMemberByEmail(authentication.getName());
-        return member.getId();
+        return currentMemberResolver.getCurrentMemberId();
     }
 
     /**
      * 일정 완료 상태 토글
+     * 유니크 키 기준 INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 생성/반전을 원자적으로 처리하고 결과만 다시 읽음
+     * (첫 토글은 완료 상태로 생성, 회원 버전 증가는 커밋 직전에 별도로 실행)
+     * 응답에 이력 ID 와 생성/수정 시각이 필요하므로 유니크 키로 한 번 더 읽음
+     * (LAST_INSERT_ID(expr) 로는 값 하나만 돌려받을 수 있고, 테스트의 H2 MySQL 모드는 그 동작을 재현하지 않음)
+     * write-behind 모드에서는 버퍼에만 기록하고 주기적으로 일괄 저장 (응답의 이력 ID 는 비어 있음)
+     * 버퍼에 없는 항목의 현재 상태는 캐시된 인덱스가 아니라 DB 에서 해당 키 하나만 읽음 (다른 인스턴스의 변경이 보이도록)
      * @param scheduleId 일정 ID
      * @param date 날짜
      * @param isRecurring 반복 일정 여부
@@ -51,28 +59,30 @@ public class CompletionHistoryService {
     public CompletionHistoryDTO toggleCompletion(Long scheduleId, LocalDate date, Boolean isRecurring) {
         Long memberId = getCurrentMemberId();
 
-        // 기존 완료 이력 조회
-        Optional<CompletionHistory> existingHistory = completionHistoryRepository.findByScheduleIdAndCompletionDateAndIsRecurring(scheduleId, date, isRecurring);
-
-        if(existingHistory.isPresent()){
-            // 이력이 있으면 상태 토글
-            CompletionHistory history = existingHistory.get();
-            history.toggleCompleted();
-            CompletionHistory updated = completionHistoryRepository.save(history);
-            return CompletionHistoryDTO.fromEntity(updated);
-        } else {
-            // 이력이 없으면 새로 생성 (기본적으로 완료 상태로)
-            CompletionHistory newHistory = CompletionHistory.builder()
+        if (completionWriteBuffer.isEnabled()) {
+            boolean completed = completionWriteBuffer.toggle(memberId, scheduleId, isRecurring, date,
+                    () -> completionHistoryRepository
+                            .findByMemberIdAndScheduleIdAndIsRecurringAndCompletionDate(memberId, scheduleId, isRecurring, date)
+                            .map(history -> Boolean.TRUE.equals(history.getCompleted()))
+                            .orElse(false));
+            dayViewCache.applyCompletionAfterCommit(memberId, scheduleId, isRecurring, date, completed);
+            return CompletionHistoryDTO.builder()
                     .scheduleId(scheduleId)
                     .isRecurring(isRecurring)
                     .completionDate(date)
-                    .completed(true) // 첫 토글은 완료상태로
-                    .memberId(memberId)
+                    .completed(completed)
                     .build();
-
-            CompletionHistory saved = completionHistoryRepository.save(newHistory);
-            return CompletionHistoryDTO.fromEntity(saved);
         }
+
+        memberDataVersion.bump(memberId);
+        completionHistoryRepository.toggleCompleted(memberId, scheduleId, isRecurring, date);
+        CompletionHistory toggled = completionHistoryRepository
+                .findByMemberIdAndScheduleIdAndIsRecurringAndCompletionDate(memberId, scheduleId, isRecurring, date)
+                .orElseThrow(() -> new IllegalStateException("토글한 완료 이력을 찾을 수 없습니다."));
+
+        completionIndexCache.applyAfterCommit(memberId, scheduleId, isRecurring, date, toggled.getCompleted());
+        dayViewCache.applyCompletionAfterCommit(memberId, scheduleId, isRecurring, date, toggled.getCompleted());
+        return CompletionHistoryDTO.fromEntity(toggled);
     }
 
     /**
@@ -87,9 +97,57 @@ public class CompletionHistoryService {
         List<CompletionHistory> completions =
                 completionHistoryRepository.findByCompletionDateAndMemberId(date, memberId);
 
-        return completions.stream()
-                .map(CompletionHistoryDTO::fromEntity)
-                .collect(Collectors.toList());
+        return withPending(memberId, completions, pending -> pending.date().equals(date));
+    }
+
+    /**
+     * 기간 내 모든 완료 이력 조회
+     * @param startDate 시작일 (포함)
+     * @param endDate 종료일 (포함)
+     * @return 완료 이력 DTO 목록
+     */
+    @Transactional(readOnly = true)
+    public List<CompletionHistoryDTO> getCompletionByDateRange(LocalDate startDate, LocalDate endDate) {
+        Long memberId = getCurrentMemberId();
+
+        return withPending(memberId,
+                completionHistoryRepository.findByMemberIdAndCompletionDateBetween(memberId, startDate, endDate),
+                pending -> !pending.date().isBefore(startDate) && !pending.date().isAfter(endDate));
+    }
+
+    /**
+     * 특정 날짜에 일정을 완료했는지 확인 (완료 인덱스 사용)
+     */
+    @Transactional(readOnly = true)
+    public boolean isCompleted(Long scheduleId, Boolean isRecurring, LocalDate date) {
+        Long memberId = getCurrentMemberId();
+
+        List<PendingCompletion> pending = completionWriteBuffer.getPending(memberId,
+                p -> p.matches(scheduleId, isRecurring, date));
+        if (!pending.isEmpty()) {
+            return pending.get(0).completed();
+        }
+        return getCompletionIndex(memberId, date, date).isCompleted(scheduleId, isRecurring, date);
+    }
+
+    /**
+     * 일정의 날짜별 완료 비트셋 조회 (통계 계산용 복사본, 기간 내 날짜만 유효)
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     */
+    @Transactional(readOnly = true)
+    public CompletionBits getCompletionBits(Long scheduleId, Boolean isRecurring, LocalDate from, LocalDate to) {
+        Long memberId = getCurrentMemberId();
+        return completionWriteBuffer.overlay(memberId, scheduleId, isRecurring,
+                getCompletionIndex(memberId, from, to).snapshot(scheduleId, isRecurring));
+    }
+
+    /**
+     * 기간을 담은 회원의 완료 인덱스 (없거나 기간 밖이면 기간 앞뒤를 넓혀 그 기간의 이력만으로 생성)
+     */
+    private MemberCompletionIndex getCompletionIndex(Long memberId, LocalDate from, LocalDate to) {
+        return completionIndexCache.get(memberId, from, to,
+                (windowFrom, windowTo) -> completionHistoryRepository.findByMemberIdAndCompletionDateBetween(memberId, windowFrom, windowTo));
     }
 
     /**
@@ -101,13 +159,43 @@ public class CompletionHistoryService {
     @Transactional(readOnly = true)
     public Map<String, Boolean> getCompletionMapByDate(LocalDate date) {
         List<CompletionHistoryDTO> completions = getCompletionByDate(date);
+        // 같은 일정의 이력이 중복되어 있어도 예외가 나지 않도록 하나라도 완료면 완료로 처리
         return completions.stream()
                 .collect(Collectors.toMap(
                         c -> (c.getIsRecurring() ? "R" : "S") + c.getScheduleId(),
-                        CompletionHistoryDTO::getCompleted
+                        CompletionHistoryDTO::getCompleted,
+                        Boolean::logicalOr
                 ));
     }
 
+    /**
+     * 기간 내 날짜별 완료 상태 맵 조회 (한 번의 쿼리)
+     * 키 형식은 getCompletionMapByDate 와 같음
+     * @param startDate 시작일 (포함)
+     * @param endDate 종료일 (포함)
+     * @return 날짜별 완료 상태 맵
+     */
+    @Transactional(readOnly = true)
+    public Map<LocalDate, Map<String, Boolean>> getCompletionMapsByDateRange(LocalDate startDate, LocalDate endDate) {
+        Long memberId = getCurrentMemberId();
+
+        Map<LocalDate, Map<String, Boolean>> result = new HashMap<>();
+        for (CompletionHistory completion : completionHistoryRepository.findByMemberIdAndCompletionDateBetween(
+                memberId, startDate, endDate)) {
+            result.computeIfAbsent(completion.getCompletionDate(), d -> new HashMap<>())
+                    .merge((completion.getIsRecurring() ? "R" : "S") + completion.getScheduleId(),
+                            completion.getCompleted(), Boolean::logicalOr);
+        }
+
+        // 저장 대기 중인 완료 상태가 우선
+        for (PendingCompletion pending : completionWriteBuffer.getPending(memberId,
+                p -> !p.date().isBefore(startDate) && !p.date().isAfter(endDate))) {
+            result.computeIfAbsent(pending.date(), d -> new HashMap<>())
+                    .put(MemberCompletionIndex.keyOf(pending.scheduleId(), pending.isRecurring()), pending.completed());
+        }
+        return result;
+    }
+
     /**
      * 특정 일정의 모든 완료 이력 조회
      * @param scheduleId 일정 ID
@@ -122,8 +210,46 @@ public class CompletionHistoryService {
                 completionHistoryRepository.findByScheduleIdAndIsRecurringAndMemberId(
                         scheduleId, isRecurring, memberId);
 
-        return completions.stream()
+        return withPending(memberId, completions,
+                pending -> pending.scheduleId().equals(scheduleId) && pending.isRecurring() == isRecurring);
+    }
+
+    /**
+     * 완료 이력 DTO 목록에 저장 대기 중인 완료 상태를 반영 (write-behind 모드에서 자기 쓰기가 바로 보이도록)
+     * 저장된 이력이 있으면 완료 여부만 바꾸고, 없으면 이력 ID 없이 추가
+     */
+    private List<CompletionHistoryDTO> withPending(Long memberId, List<CompletionHistory> completions,
+                                                   Predicate<PendingCompletion> filter) {
+        List<CompletionHistoryDTO> result = completions.stream()
                 .map(CompletionHistoryDTO::fromEntity)
                 .collect(Collectors.toList());
+
+        for (PendingCompletion pending : completionWriteBuffer.getPending(memberId, filter)) {
+            boolean found = false;
+            for (int i = 0; i < result.size(); i++) {
+                CompletionHistoryDTO dto = result.get(i);
+                if (pending.matches(dto.getScheduleId(), dto.getIsRecurring(), dto.getCompletionDate())) {
+                    result.set(i, CompletionHistoryDTO.builder()
+                            .id(dto.getId())
+                            .scheduleId(dto.getScheduleId())
+                            .isRecurring(dto.getIsRecurring())
+                            .completionDate(dto.getCompletionDate())
+                            .completed(pending.completed())
+                            .createdAt(dto.getCreatedAt())
+                            .updatedAt(dto.getUpdatedAt())
+                            .build());
+                    found = true;
+                }
+            }
+            if (!found) {
+                result.add(CompletionHistoryDTO.builder()
+                        .scheduleId(pending.scheduleId())
+                        .isRecurring(pending.isRecurring())
+                        .completionDate(pending.date())
+                        .completed(pending.completed())
+                        .build());
+            }
+        }
+        return result;
     }
 }
\ No newline at end of file
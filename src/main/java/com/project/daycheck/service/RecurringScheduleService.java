@@ -1,36 +1,54 @@
 package com.project.daycheck.service;
 
+import com.project.daycheck.config.security.CurrentMemberResolver;
 import com.project.daycheck.dto.RecurringExceptionDTO;
+import com.project.daycheck.dto.RecurringOccurrencePageDTO;
 import com.project.daycheck.dto.RecurringScheduleDTO;
 import com.project.daycheck.dto.ScheduleDTO;
 import com.project.daycheck.dto.request.RecurringScheduleRequest;
-import com.project.daycheck.entity.Member;
+import com.project.daycheck.entity.DayOfWeekMask;
+import com.project.daycheck.entity.MinuteOfDay;
 import com.project.daycheck.entity.RecurringException;
+import com.project.daycheck.entity.RecurringOccurrence;
 import com.project.daycheck.entity.RecurringSchedule;
 import com.project.daycheck.entity.RecurringScheduleDay;
 import com.project.daycheck.exception.BusinessException;
 import com.project.daycheck.exception.ErrorCode;
 import com.project.daycheck.repository.RecurringExceptionRepository;
+import com.project.daycheck.repository.RecurringOccurrenceRepository;
 import com.project.daycheck.repository.RecurringScheduleDayRepository;
 import com.project.daycheck.repository.RecurringScheduleRepository;
+import com.project.daycheck.service.calendar.MemberDataVersion;
+import com.project.daycheck.service.recurrence.Occurrence;
+import com.project.daycheck.service.recurrence.RecurrenceExpander;
+import com.project.daycheck.service.recurrence.RecurrenceIndex;
+import com.project.daycheck.service.recurrence.RecurrenceMatcher;
+import com.project.daycheck.service.recurrence.RecurrenceMatcherCache;
+import com.project.daycheck.service.recurrence.RecurringExceptionIndex;
+import com.project.daycheck.service.recurrence.RecurringOccurrenceMaterializer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
-import java.time.temporal.TemporalAdjusters;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * 반복 일정 서비스
@@ -40,26 +58,35 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class RecurringScheduleService {
 
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    // 발생 페이지 최대 크기
+    public static final int MAX_OCCURRENCE_PAGE_SIZE = 1000;
+
     private final RecurringScheduleRepository recurringScheduleRepository;
     private final RecurringScheduleDayRepository recurringScheduleDayRepository;
     private final RecurringExceptionRepository recurringExceptionRepository;
-    private final MemberService memberService;
+    private final CurrentMemberResolver currentMemberResolver;
+    private final RecurrenceMatcherCache recurrenceMatcherCache;
+    private final RecurringOccurrenceRepository recurringOccurrenceRepository;
+    private final RecurringOccurrenceMaterializer recurringOccurrenceMaterializer;
+    private final MemberDataVersion memberDataVersion;
+    private final RecurrenceIndex recurrenceIndex;
+
+    // true 면 days_mask 와 함께 recurring_schedule_day 행도 기록 (이전 버전 인스턴스가 요일을 읽을 수 있도록, 배포가 끝나면 끔)
+    @Value("${spring.schedule.recurring-days.write-legacy-rows:true}")
+    private boolean writeLegacyDayRows;
 
     /**
      * 현재 인증된 사용자의 ID를 가져옴
      */
     private Long getCurrentMemberId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new BusinessException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
-
-        Member member = memberService.findMemberByEmail(authentication.getName());
-        return member.getId();
+        return currentMemberResolver.getCurrentMemberId();
     }
 
     /**
      * 모든 반복 일정 조회
+     * 요일은 패턴의 days_mask 에서, 예외는 패턴 묶음 단위로 조회 (패턴 수와 무관한 조회 횟수)
      */
     @Transactional(readOnly = true)
     public List<RecurringScheduleDTO> getAllRecurringSchedules() {
@@ -90,42 +117,74 @@ public class RecurringScheduleService {
     public List<ScheduleDTO> getRecurringSchedulesByDate(LocalDate date) {
         Long memberId = getCurrentMemberId();
 
-        // 해당 날짜의 활성화된 모든 반복 일정 패턴 조회
-        List<RecurringSchedule> activePatterns = recurringScheduleRepository.findActiveOnDate(memberId, date.atStartOfDay());
+        // 발생일 테이블이 채워진 날짜면 테이블에서 조회
+        if (recurringOccurrenceMaterializer.covers(date, date)) {
+            return getMaterializedSchedulesGroupedByDate(memberId, date, date)
+                    .getOrDefault(date, new ArrayList<>());
+        }
 
-        List<ScheduleDTO> scheduleDTOS = new ArrayList<>();
+        // 해당 날짜의 활성화된 모든 반복 일정 패턴 조회 (역색인이 켜져 있으면 날짜에 발생하는 패턴만)
+        List<RecurringSchedule> activePatterns = recurrenceIndex.isEnabled()
+                ? findIndexedPatterns(memberId, date)
+                : recurringScheduleRepository.findActiveOnDate(memberId, date.atStartOfDay());
 
-        // 각 패턴에 대해 해당 날짜가 패턴에 해당하는지 확인하고 일정 생성
+        // 각 패턴에 대해 해당 날짜가 패턴에 해당하는지 확인
+        Map<Long, RecurrenceMatcher> matchers = resolveMatchers(activePatterns);
+        List<RecurringSchedule> matchingPatterns = new ArrayList<>();
         for(RecurringSchedule pattern : activePatterns) {
-            if(isDateMatchingPattern(date, pattern)){
-                // 예외 확인
-                Optional<RecurringException> exceptionOpt = recurringExceptionRepository.findByRecurringScheduleIdAndExceptionDate(pattern.getId(), date);
+            if(matchers.get(pattern.getId()).matches(date)){
+                matchingPatterns.add(pattern);
+            }
+        }
 
-                // 건너뛰기 예외가 있으면 스킵
-                if(exceptionOpt.isPresent() && "SKIP".equals(exceptionOpt.get().getExceptionType())){
-                    continue;
-                }
+        List<ScheduleDTO> scheduleDTOS = new ArrayList<>();
+        if (matchingPatterns.isEmpty()) {
+            return scheduleDTOS;
+        }
+
+        // 해당 날짜의 예외를 한 번에 조회
+        RecurringExceptionIndex exceptionIndex = RecurringExceptionIndex.of(
+                recurringExceptionRepository.findByMemberIdAndDate(memberId, date));
 
-                // 일정 정보 생성
-                ScheduleDTO scheduleDTO = createScheduleFromPattern(pattern, date, exceptionOpt.orElse(null));
-                scheduleDTOS.add(scheduleDTO);
+        for (RecurringSchedule pattern : matchingPatterns) {
+            RecurringException exception = exceptionIndex.get(pattern.getId(), date);
+
+            // 건너뛰기 예외가 있으면 스킵
+            if (RecurringExceptionIndex.isSkip(exception)) {
+                continue;
             }
+
+            // 일정 정보 생성
+            scheduleDTOS.add(createScheduleFromPattern(pattern, date, exception));
         }
 
         return scheduleDTOS;
     }
 
+    /**
+     * 역색인으로 고른 날짜의 반복 일정 패턴 조회
+     * 다른 인스턴스에서 수정된 패턴이 색인에 남아 있을 수 있으므로 호출하는 쪽에서 현재 패턴으로 다시 확인
+     */
+    private List<RecurringSchedule> findIndexedPatterns(Long memberId, LocalDate date) {
+        List<Long> patternIds = recurrenceIndex.findPatternIds(memberId, date,
+                () -> recurringScheduleRepository.findByMemberId(memberId));
+        return patternIds.isEmpty() ? new ArrayList<>() : recurringScheduleRepository.findAllById(patternIds);
+    }
+
+    /**
+     * 패턴별 컴파일된 매처 조회
+     */
+    private Map<Long, RecurrenceMatcher> resolveMatchers(List<RecurringSchedule> patterns) {
+        return recurrenceMatcherCache.getAll(patterns);
+    }
+
     /**
      * 패턴과 날짜로부터 일정 DTO 생성 (수정된 버전)
      */
     private ScheduleDTO createScheduleFromPattern(RecurringSchedule pattern, LocalDate date, RecurringException exception) {
-        // 시작 시간과 종료 시간 파싱
-        LocalTime startTime = LocalTime.parse(pattern.getStartTime(), DateTimeFormatter.ofPattern("HH:mm"));
-        LocalTime endTime = LocalTime.parse(pattern.getEndTime(), DateTimeFormatter.ofPattern("HH:mm"));
-
-        // 날짜와 시간 결합
-        LocalDateTime startDateTime = date.atTime(startTime);
-        LocalDateTime endDateTime = date.atTime(endTime);
+        // 미리 변환해 둔 하루 중 분과 날짜 결합 (문자열 파싱 없음)
+        LocalDateTime startDateTime = MinuteOfDay.atDate(date, pattern.getStartMinute());
+        LocalDateTime endDateTime = MinuteOfDay.atDate(date, pattern.getEndMinute());
 
         String title = pattern.getContent();
         String priority = pattern.getPriority();
@@ -138,10 +197,10 @@ public class RecurringScheduleService {
             }
 
             if(exception.getModifiedStartTime() != null) {
-                startDateTime = date.atTime(LocalTime.parse(exception.getModifiedStartTime(), DateTimeFormatter.ofPattern("HH:mm")));
+                startDateTime = MinuteOfDay.atDate(date, exception.getModifiedStartMinute());
             }
             if (exception.getModifiedEndTime() != null) {
-                endDateTime = date.atTime(LocalTime.parse(exception.getModifiedEndTime(), DateTimeFormatter.ofPattern("HH:mm")));
+                endDateTime = MinuteOfDay.atDate(date, exception.getModifiedEndMinute());
             }
 
             if (exception.getModifiedPriority() != null) {
@@ -167,119 +226,24 @@ public class RecurringScheduleService {
                 .build();
     }
 
-    /**
-     * 날짜가 패턴과 일치하는지 확인
-     */
-    private boolean isDateMatchingPattern(LocalDate date, RecurringSchedule pattern) {
-        // 패턴의 시작일과 종료일 범위 확인
-        LocalDate patternStartDate = pattern.getStartDate().toLocalDate();
-        LocalDate patternEndDate = pattern.getEndDate() != null ? pattern.getEndDate().toLocalDate() : LocalDate.now().plusYears(100);
-
-        if (date.isBefore(patternStartDate) || date.isAfter(patternEndDate)) {
-            return false;
-        }
-
-        switch (pattern.getPatternType()) {
-            case "DAILY":
-                // 매일 반복 - 간격 고려
-                long daysBetween = ChronoUnit.DAYS.between(patternStartDate, date);
-                return daysBetween % pattern.getInterval() == 0;
-
-            case "WEEKLY":
-                // 매주 특정 요일 반복
-                if (!pattern.getScheduleDays().isEmpty()) {
-                    // 요일 목록에 포함되는지 확인
-                    DayOfWeek currentDayOfWeek = date.getDayOfWeek();
-                    boolean isDayMatching = pattern.containsDay(currentDayOfWeek);
-
-                    if (!isDayMatching) {
-                        return false;
-                    }
-
-                    // 주 간격 계산
-                    LocalDate firstDayOfWeek = patternStartDate
-                            .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-                    LocalDate dateDayOfWeek = date
-                            .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-
-                    long weeksBetween = ChronoUnit.WEEKS.between(firstDayOfWeek, dateDayOfWeek);
-
-                    return weeksBetween % pattern.getInterval() == 0;
-                } else {
-                    // 시작일과 같은 요일만 해당
-                    boolean isSameDayOfWeek = date.getDayOfWeek() == patternStartDate.getDayOfWeek();
-                    long weeksBetween = ChronoUnit.WEEKS.between(
-                            patternStartDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)),
-                            date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)));
-
-                    return isSameDayOfWeek && weeksBetween % pattern.getInterval() == 0;
-                }
-
-            case "MONTHLY":
-                // 매월 특정 일 또는 특정 주차 특정 요일
-                if (pattern.getDayOfMonth() != null) {
-                    // 매월 n일
-                    boolean isSameDayOfMonth = date.getDayOfMonth() == pattern.getDayOfMonth();
-                    long monthsBetween = ChronoUnit.MONTHS.between(
-                            patternStartDate.withDayOfMonth(1),
-                            date.withDayOfMonth(1));
-
-                    return isSameDayOfMonth && monthsBetween % pattern.getInterval() == 0;
-                } else if (pattern.getWeekOfMonth() != null && !pattern.getScheduleDays().isEmpty()) {
-                    // 패턴에 저장된 첫 번째 요일 가져오기 (예: "매월 n번째 월요일")
-                    DayOfWeek dayOfWeek = pattern.getScheduleDays().get(0).getDayOfWeek();
-                    int weekOfMonth = (date.getDayOfMonth() - 1) / 7 + 1; // 월의 몇 번째 주인지 계산
-
-                    boolean isMatchingWeekAndDay = weekOfMonth == pattern.getWeekOfMonth()
-                            && date.getDayOfWeek() == dayOfWeek;
-
-                    long monthsBetween = ChronoUnit.MONTHS.between(
-                            patternStartDate.withDayOfMonth(1),
-                            date.withDayOfMonth(1));
-
-                    return isMatchingWeekAndDay && monthsBetween % pattern.getInterval() == 0;
-                }
-                return false;
-
-            case "YEARLY":
-                // 매년 같은 날짜
-                boolean isSameMonthAndDay = date.getMonthValue() == patternStartDate.getMonthValue()
-                        && date.getDayOfMonth() == patternStartDate.getDayOfMonth();
-
-                long yearsBetween = ChronoUnit.YEARS.between(patternStartDate, date);
-
-                return isSameMonthAndDay && yearsBetween % pattern.getInterval() == 0;
-
-            case "CUSTOM":
-                // 사용자 정의 패턴 (요일 지정)
-                if (!pattern.getScheduleDays().isEmpty()) {
-                    DayOfWeek currentDayOfWeek = date.getDayOfWeek();
-                    return pattern.containsDay(currentDayOfWeek);
-                }
-                return false;
-
-            default:
-                return false;
-        }
-    }
-
     /**
      * 새 반복 일정 추가
      */
     @Transactional
     public RecurringScheduleDTO createRecurringSchedule(RecurringScheduleRequest request) {
         Long memberId = getCurrentMemberId();
+        memberDataVersion.bump(memberId);
 
         // 시작/종료 시간 설정
         String startTime = request.getStartTime();
         String endTime = request.getEndTime();
 
         if (startTime == null) {
-            startTime = request.getStartDate().toLocalTime().format(DateTimeFormatter.ofPattern("HH:mm"));
+            startTime = request.getStartDate().toLocalTime().format(TIME_FORMATTER);
         }
 
         if (endTime == null) {
-            endTime = request.getEndDate().toLocalTime().format(DateTimeFormatter.ofPattern("HH:mm"));
+            endTime = request.getEndDate().toLocalTime().format(TIME_FORMATTER);
         }
 
         // 반복 일정 생성
@@ -296,24 +260,16 @@ public class RecurringScheduleService {
                 .endTime(endTime)
                 .priority(request.getPriority())
                 .description(request.getDescription())
+                .daysMask(DayOfWeekMask.of(request.getDaysOfWeek()))
                 .scheduleDays(new ArrayList<>())
                 .build();
 
-        // 저장하여 ID 생성
+        // 저장하여 ID 생성 (요일은 days_mask 로 같은 행에 저장)
         RecurringSchedule savedSchedule = recurringScheduleRepository.save(recurringSchedule);
+        writeLegacyDayRows(savedSchedule, false);
 
-        // 요일 정보 추가
-        if (request.getDaysOfWeek() != null && !request.getDaysOfWeek().isEmpty()) {
-            for (DayOfWeek day : request.getDaysOfWeek()) {
-                RecurringScheduleDay scheduleDay = RecurringScheduleDay.builder()
-                        .recurringScheduleId(savedSchedule.getId())
-                        .dayOfWeek(day)
-                        .build();
-                scheduleDay.setRecurringSchedule(savedSchedule);
-                savedSchedule.getScheduleDays().add(scheduleDay);
-                recurringScheduleDayRepository.save(scheduleDay);
-            }
-        }
+        // 발생일 테이블 갱신
+        recurringOccurrenceMaterializer.refresh(savedSchedule);
 
         return RecurringScheduleDTO.fromEntity(savedSchedule);
     }
@@ -328,6 +284,7 @@ public class RecurringScheduleService {
         // 반복 일정 조회
         RecurringSchedule recurringSchedule = recurringScheduleRepository.findByIdAndMemberId(recurringScheduleId, memberId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
+        memberDataVersion.bump(memberId);
 
         // 필드 업데이트
         recurringSchedule.updateContent(request.getContent());
@@ -348,24 +305,10 @@ public class RecurringScheduleService {
                     .endTime(request.getEndTime() != null ? request.getEndTime() : recurringSchedule.getEndTime())
                     .priority(request.getPriority() != null ? request.getPriority() : recurringSchedule.getPriority())
                     .description(request.getDescription() != null ? request.getDescription() : recurringSchedule.getDescription())
+                    .daysMask(DayOfWeekMask.of(request.getDaysOfWeek()))
                     .scheduleDays(new ArrayList<>())
                     .build();
-
-            // 기존 요일 정보 삭제
-            recurringScheduleDayRepository.deleteByRecurringScheduleId(recurringScheduleId);
-
-            // 새 요일 정보 추가
-            if (request.getDaysOfWeek() != null && !request.getDaysOfWeek().isEmpty()) {
-                for (DayOfWeek day : request.getDaysOfWeek()) {
-                    RecurringScheduleDay scheduleDay = RecurringScheduleDay.builder()
-                            .recurringScheduleId(updatedSchedule.getId())
-                            .dayOfWeek(day)
-                            .build();
-                    scheduleDay.setRecurringSchedule(updatedSchedule);
-                    updatedSchedule.getScheduleDays().add(scheduleDay);
-                    recurringScheduleDayRepository.save(scheduleDay);
-                }
-            }
+            writeLegacyDayRows(updatedSchedule, true);
 
             // 데이터 복사
             for (RecurringException exception : recurringSchedule.getExceptions()) {
@@ -380,19 +323,9 @@ public class RecurringScheduleService {
             }
 
             if (request.getDaysOfWeek() != null) {
-                // 기존 요일 정보 삭제
-                recurringScheduleDayRepository.deleteByRecurringScheduleId(recurringScheduleId);
-
-                // 새 요일 정보 추가
-                for (DayOfWeek day : request.getDaysOfWeek()) {
-                    RecurringScheduleDay scheduleDay = RecurringScheduleDay.builder()
-                            .recurringScheduleId(recurringSchedule.getId())
-                            .dayOfWeek(day)
-                            .build();
-                    scheduleDay.setRecurringSchedule(recurringSchedule);
-                    recurringSchedule.getScheduleDays().add(scheduleDay);
-                    recurringScheduleDayRepository.save(scheduleDay);
-                }
+                // 요일 교체 (days_mask 한 컬럼만 변경)
+                recurringSchedule.updateDays(request.getDaysOfWeek());
+                writeLegacyDayRows(recurringSchedule, true);
             }
 
             if (request.getDayOfMonth() != null) {
@@ -421,9 +354,37 @@ public class RecurringScheduleService {
         }
 
         RecurringSchedule updatedSchedule = recurringScheduleRepository.save(recurringSchedule);
+
+        // 컴파일된 매처 무효화 후 발생일 테이블 갱신 (변경된 요일로 다시 컴파일)
+        recurrenceMatcherCache.invalidate(recurringScheduleId);
+        recurringOccurrenceMaterializer.refresh(updatedSchedule);
+
         return RecurringScheduleDTO.fromEntity(updatedSchedule);
     }
 
+    /**
+     * 이전 버전 호환용 요일 행 기록 (write-legacy-rows 가 켜져 있을 때만)
+     * @param replace 기존 요일 행을 지우고 다시 기록할지 여부
+     */
+    private void writeLegacyDayRows(RecurringSchedule pattern, boolean replace) {
+        if (!writeLegacyDayRows) {
+            return;
+        }
+
+        if (replace) {
+            recurringScheduleDayRepository.deleteByRecurringScheduleId(pattern.getId());
+        }
+        for (DayOfWeek day : pattern.getDaysOfWeek()) {
+            RecurringScheduleDay scheduleDay = RecurringScheduleDay.builder()
+                    .recurringScheduleId(pattern.getId())
+                    .dayOfWeek(day)
+                    .build();
+            scheduleDay.setRecurringSchedule(pattern);
+            pattern.getScheduleDays().add(scheduleDay);
+            recurringScheduleDayRepository.save(scheduleDay);
+        }
+    }
+
     /**
      * 반복 일정 삭제
      */
@@ -434,28 +395,235 @@ public class RecurringScheduleService {
         // 반복 일정 조회
         RecurringSchedule recurringSchedule = recurringScheduleRepository.findByIdAndMemberId(recurringScheduleId, memberId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
+        memberDataVersion.bump(memberId);
 
-        // 요일 정보 삭제
+        // 이전 버전 요일 행, 발생일 삭제
         recurringScheduleDayRepository.deleteByRecurringScheduleId(recurringScheduleId);
+        recurringOccurrenceMaterializer.remove(recurringScheduleId);
 
         // 반복 일정 삭제 (예외 정보는 cascade로 함께 삭제됨)
         recurringScheduleRepository.delete(recurringSchedule);
+
+        // 컴파일된 매처 무효화
+        recurrenceMatcherCache.invalidate(recurringScheduleId);
     }
 
     /**
      * 기간별 일정 조회
+     * 패턴, 요일, 예외를 한 번씩만 조회한 뒤 메모리에서 발생일을 계산
      */
     @Transactional(readOnly = true)
     public List<ScheduleDTO> getRecurringSchedulesByDateRange(LocalDate startDate, LocalDate endDate) {
-        Long memberId = getCurrentMemberId();
         List<ScheduleDTO> result = new ArrayList<>();
+        getRecurringSchedulesGroupedByDate(startDate, endDate).values().forEach(result::addAll);
+        return result;
+    }
 
-        // 범위 내 모든 날짜에 대해 반복 일정 조회
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            List<ScheduleDTO> dailySchedules = getRecurringSchedulesByDate(date);
-            result.addAll(dailySchedules);
+    /**
+     * 기간 내 반복 일정 발생을 시간 순서로 조회 (날짜 오름차순, 같은 날짜 안에서는 패턴 ID 순)
+     * 패턴과 예외는 호출 시 한 번씩 조회하고, 발생은 스트림을 읽는 만큼만 전개 (기간 전체 목록을 만들지 않음)
+     */
+    @Transactional(readOnly = true)
+    public Stream<ScheduleDTO> streamRecurringSchedules(LocalDate startDate, LocalDate endDate) {
+        OccurrenceSource source = openOccurrences(getCurrentMemberId(), startDate, endDate, null);
+        return source.occurrences().map(occurrence -> toSchedule(source, occurrence));
+    }
+
+    /**
+     * 기간 내 반복 일정 발생 한 페이지 조회 (시간 순서)
+     * @param after 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param limit 페이지 크기 (1 ~ MAX_OCCURRENCE_PAGE_SIZE)
+     */
+    @Transactional(readOnly = true)
+    public RecurringOccurrencePageDTO getRecurringOccurrencePage(LocalDate startDate, LocalDate endDate, String after, int limit) {
+        if (endDate.isBefore(startDate)) {
+            throw new BusinessException(ErrorCode.INVALID_DATE_RANGE);
+        }
+        if (limit < 1 || limit > MAX_OCCURRENCE_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
         }
 
-        return result;
+        OccurrenceSource source = openOccurrences(getCurrentMemberId(), startDate, endDate, parseCursor(after));
+
+        // 다음 페이지가 있는지 확인하기 위해 하나 더 전개
+        List<Occurrence> occurrences = source.occurrences().limit(limit + 1L).collect(Collectors.toList());
+        boolean hasNext = occurrences.size() > limit;
+        List<Occurrence> page = hasNext ? occurrences.subList(0, limit) : occurrences;
+
+        List<ScheduleDTO> schedules = new ArrayList<>(page.size());
+        for (Occurrence occurrence : page) {
+            schedules.add(toSchedule(source, occurrence));
+        }
+
+        return RecurringOccurrencePageDTO.builder()
+                .schedules(schedules)
+                .nextCursor(hasNext ? page.get(page.size() - 1).toCursor() : null)
+                .build();
+    }
+
+    /**
+     * 기간 내 활성 패턴을 k-way 병합으로 지연 전개 (after 가 있으면 그 다음 발생부터, 건너뛰기 예외 제외)
+     */
+    private OccurrenceSource openOccurrences(Long memberId, LocalDate startDate, LocalDate endDate, Occurrence after) {
+        LocalDate from = after != null && after.date().isAfter(startDate) ? after.date() : startDate;
+        if (endDate.isBefore(from)) {
+            return new OccurrenceSource(Map.of(), RecurringExceptionIndex.empty(), Stream.empty());
+        }
+
+        List<RecurringSchedule> activePatterns = recurringScheduleRepository.findActiveInRange(
+                memberId, from.atStartOfDay(), endDate.atStartOfDay());
+        if (activePatterns.isEmpty()) {
+            return new OccurrenceSource(Map.of(), RecurringExceptionIndex.empty(), Stream.empty());
+        }
+
+        Map<Long, RecurringSchedule> patterns = activePatterns.stream()
+                .collect(Collectors.toMap(RecurringSchedule::getId, Function.identity()));
+        RecurringExceptionIndex exceptionIndex = RecurringExceptionIndex.of(
+                recurringExceptionRepository.findByMemberIdAndDateBetween(memberId, from, endDate));
+
+        Iterator<Occurrence> iterator = RecurrenceExpander.merge(resolveMatchers(activePatterns).values(), from, endDate);
+        Stream<Occurrence> occurrences = StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                        Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false)
+                .filter(occurrence -> after == null || occurrence.compareTo(after) > 0)
+                .filter(occurrence -> !RecurringExceptionIndex.isSkip(exceptionIndex.get(occurrence.patternId(), occurrence.date())));
+
+        return new OccurrenceSource(patterns, exceptionIndex, occurrences);
+    }
+
+    private ScheduleDTO toSchedule(OccurrenceSource source, Occurrence occurrence) {
+        return createScheduleFromPattern(source.patterns().get(occurrence.patternId()), occurrence.date(),
+                source.exceptionIndex().get(occurrence.patternId(), occurrence.date()));
+    }
+
+    /**
+     * 페이지 커서 검증 (없으면 null)
+     */
+    private static Occurrence parseCursor(String after) {
+        if (after == null || after.isBlank()) {
+            return null;
+        }
+
+        try {
+            return Occurrence.fromCursor(after);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    /**
+     * 지연 전개 중인 발생과 DTO 생성에 필요한 패턴/예외
+     */
+    private record OccurrenceSource(Map<Long, RecurringSchedule> patterns,
+                                    RecurringExceptionIndex exceptionIndex,
+                                    Stream<Occurrence> occurrences) {
+    }
+
+    /**
+     * 반복 일정 하나의 기간 내 발생일 목록 (건너뛰기 예외 제외, 오름차순)
+     */
+    @Transactional(readOnly = true)
+    public List<LocalDate> getOccurrenceDates(Long recurringScheduleId, LocalDate startDate, LocalDate endDate) {
+        Long memberId = getCurrentMemberId();
+
+        RecurringSchedule pattern = recurringScheduleRepository.findByIdAndMemberId(recurringScheduleId, memberId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
+
+        RecurrenceMatcher matcher = resolveMatchers(List.of(pattern)).get(pattern.getId());
+        RecurringExceptionIndex exceptionIndex = RecurringExceptionIndex.of(
+                recurringExceptionRepository.findByRecurringScheduleIdAndExceptionDateBetween(recurringScheduleId, startDate, endDate));
+
+        List<LocalDate> occurrences = new ArrayList<>();
+        for (LocalDate date : RecurrenceExpander.expand(matcher, startDate, endDate)) {
+            if (!RecurringExceptionIndex.isSkip(exceptionIndex.get(pattern.getId(), date))) {
+                occurrences.add(date);
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * 기간 내 반복 일정을 날짜별로 묶어서 조회 (날짜 오름차순)
+     * 같은 날짜 안에서는 패턴 조회 순서 유지, 발생일이 없는 날짜는 포함하지 않음
+     */
+    @Transactional(readOnly = true)
+    public SortedMap<LocalDate, List<ScheduleDTO>> getRecurringSchedulesGroupedByDate(LocalDate startDate, LocalDate endDate) {
+        Long memberId = getCurrentMemberId();
+        SortedMap<LocalDate, List<ScheduleDTO>> schedulesByDate = new TreeMap<>();
+
+        if (endDate.isBefore(startDate)) {
+            return schedulesByDate;
+        }
+
+        // 발생일 테이블이 채워진 기간이면 테이블에서 조회
+        if (recurringOccurrenceMaterializer.covers(startDate, endDate)) {
+            return getMaterializedSchedulesGroupedByDate(memberId, startDate, endDate);
+        }
+
+        // 기간 중 활성화된 반복 일정 패턴 조회
+        List<RecurringSchedule> activePatterns = recurringScheduleRepository.findActiveInRange(
+                memberId, startDate.atStartOfDay(), endDate.atStartOfDay());
+
+        if (activePatterns.isEmpty()) {
+            return schedulesByDate;
+        }
+
+        Map<Long, RecurrenceMatcher> matchers = resolveMatchers(activePatterns);
+
+        // 예외 정보 일괄 조회
+        RecurringExceptionIndex exceptionIndex = RecurringExceptionIndex.of(
+                recurringExceptionRepository.findByMemberIdAndDateBetween(memberId, startDate, endDate));
+
+        for (RecurringSchedule pattern : activePatterns) {
+            for (LocalDate date : RecurrenceExpander.expand(matchers.get(pattern.getId()), startDate, endDate)) {
+                RecurringException exception = exceptionIndex.get(pattern.getId(), date);
+
+                // 건너뛰기 예외가 있으면 스킵
+                if (RecurringExceptionIndex.isSkip(exception)) {
+                    continue;
+                }
+
+                schedulesByDate
+                        .computeIfAbsent(date, d -> new ArrayList<>())
+                        .add(createScheduleFromPattern(pattern, date, exception));
+            }
+        }
+
+        return schedulesByDate;
+    }
+
+    /**
+     * 발생일 테이블로 기간 내 반복 일정을 날짜별로 묶어서 조회 (날짜 오름차순, 같은 날짜 안에서는 패턴 ID 순)
+     * 패턴 전개 없이 (member_id, occurrence_date) 범위 조회 후 패턴과 수정 예외만 한 번씩 조회
+     */
+    private SortedMap<LocalDate, List<ScheduleDTO>> getMaterializedSchedulesGroupedByDate(Long memberId, LocalDate startDate, LocalDate endDate) {
+        SortedMap<LocalDate, List<ScheduleDTO>> schedulesByDate = new TreeMap<>();
+
+        List<RecurringOccurrence> occurrences = recurringOccurrenceRepository.findByMemberIdAndDateBetween(memberId, startDate, endDate);
+        if (occurrences.isEmpty()) {
+            return schedulesByDate;
+        }
+
+        Set<Long> patternIds = occurrences.stream()
+                .map(RecurringOccurrence::getRecurringScheduleId)
+                .collect(Collectors.toSet());
+        Map<Long, RecurringSchedule> patterns = recurringScheduleRepository.findAllById(patternIds).stream()
+                .collect(Collectors.toMap(RecurringSchedule::getId, Function.identity()));
+
+        RecurringExceptionIndex exceptionIndex = RecurringExceptionIndex.of(
+                recurringExceptionRepository.findByMemberIdAndDateBetween(memberId, startDate, endDate));
+
+        for (RecurringOccurrence occurrence : occurrences) {
+            RecurringSchedule pattern = patterns.get(occurrence.getRecurringScheduleId());
+            if (pattern == null) {
+                continue;
+            }
+
+            LocalDate date = occurrence.getOccurrenceDate();
+            schedulesByDate
+                    .computeIfAbsent(date, d -> new ArrayList<>())
+                    .add(createScheduleFromPattern(pattern, date, exceptionIndex.get(pattern.getId(), date)));
+        }
+
+        return schedulesByDate;
     }
-}
\ No newline at end of file
+}
@@ -1,21 +1,21 @@
 package com.project.daycheck.service;
 
-import com.project.daycheck.dto.CompletionHistoryDTO;
+import com.project.daycheck.config.security.CurrentMemberResolver;
+import com.project.daycheck.dto.CompletionStatsDTO;
 import com.project.daycheck.dto.ScheduleDTO;
-import com.project.daycheck.entity.Member;
-import com.project.daycheck.entity.RecurringSchedule;
 import com.project.daycheck.exception.BusinessException;
 import com.project.daycheck.exception.ErrorCode;
-import com.project.daycheck.repository.RecurringScheduleRepository;
+import com.project.daycheck.service.calendar.DayViewCache;
+import com.project.daycheck.service.calendar.QueryFanOutExecutor;
+import com.project.daycheck.service.completion.CompletionBits;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -27,155 +27,206 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ScheduleQueryService {
 
+    // 한 번에 조회할 수 있는 최대 기간 (일)
+    private static final int MAX_RANGE_DAYS = 366;
+
     private final ScheduleService scheduleService;
     private final RecurringScheduleService recurringScheduleService;
     private final CompletionHistoryService completionHistoryService;
-    private final MemberService memberService;
+    private final CurrentMemberResolver currentMemberResolver;
+    private final DayViewCache dayViewCache;
+    private final QueryFanOutExecutor queryFanOutExecutor;
 
-    private final RecurringScheduleRepository recurringScheduleRepository;
+    /**
+     * 특정 날짜의 모든 일정 조회 (일반 + 반복)
+     * 회원, 날짜별 캐시에 있으면 그대로 반환 (캐시 적중 시 트랜잭션, DB 조회 없음)
+     */
+    public List<ScheduleDTO> getAllSchedulesByDate(LocalDate date) {
+        Long memberId = currentMemberResolver.getCurrentMemberId();
+        return dayViewCache.get(memberId, date, () -> assembleSchedulesByDate(date));
+    }
 
     /**
-     * 현재 인증된 사용자의 ID를 가져옴
+     * 특정 날짜의 통합 일정 조립
+     * 일반 일정, 반복 일정(패턴/예외), 완료 이력을 각각 한 번씩만 조회하고 한 번의 순회로 조립
+     * 동시 조회가 켜져 있으면 일반/반복 일정은 작업 스레드에서, 완료 이력은 요청 스레드에서 동시에 조회
      */
-    private Long getCurrentMemberId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new BusinessException(ErrorCode.UNAUTHORIZED_ACCESS);
+    private List<ScheduleDTO> assembleSchedulesByDate(LocalDate date) {
+        // 1. 일반 일정 조회
+        CompletableFuture<List<ScheduleDTO>> regularFuture =
+                queryFanOutExecutor.submit(() -> scheduleService.getScheduleByDate(date));
+
+        // 2. 반복 일정 조회 (isRecurring, patternType 은 생성 시점에 이미 설정됨)
+        CompletableFuture<List<ScheduleDTO>> recurringFuture =
+                queryFanOutExecutor.submit(() -> recurringScheduleService.getRecurringSchedulesByDate(date));
+
+        // 3. 완료 상태 맵 조회
+        Map<String, Boolean> completionMap = completionHistoryService.getCompletionMapByDate(date);
+        List<ScheduleDTO> regularSchedules = QueryFanOutExecutor.join(regularFuture);
+        List<ScheduleDTO> recurringSchedules = QueryFanOutExecutor.join(recurringFuture);
+
+        // 4. 완료 상태를 적용하면서 모든 일정 합치기
+        List<ScheduleDTO> allSchedules = new ArrayList<>(regularSchedules.size() + recurringSchedules.size());
+        for (ScheduleDTO schedule : regularSchedules) {
+            allSchedules.add(applyCompletionStatus(schedule, completionMap, "S" + schedule.getId()));
+        }
+        for (ScheduleDTO schedule : recurringSchedules) {
+            allSchedules.add(applyCompletionStatus(schedule, completionMap, "R" + Math.abs(schedule.getId())));
         }
 
-        Member member = memberService.findMemberByEmail(authentication.getName());
-        return member.getId();
+        // 5. 정렬 및 반환
+        return sortSchedules(allSchedules);
     }
 
     /**
-     * 특정 날짜의 모든 일정 조회 (일반 + 반복)
+     * 기간 내 모든 일정을 날짜별로 조회 (일반 + 반복)
+     * 일반 일정, 반복 일정, 완료 이력을 기간 전체에 대해 한 번씩만 조회한 뒤 날짜별로 조립
+     * 여러 날에 걸친 일반 일정은 걸쳐 있는 날짜마다 포함되고, 일정이 없는 날짜는 빈 목록으로 반환
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     * @return 날짜 오름차순의 날짜별 일정 목록
      */
     @Transactional(readOnly = true)
-    public List<ScheduleDTO> getAllSchedulesByDate(LocalDate date) {
-        // 1. 일반 일정 조회
-        List<ScheduleDTO> regularSchedules = scheduleService.getScheduleByDate(date);
+    public Map<LocalDate, List<ScheduleDTO>> getAllSchedulesByDateRange(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+
+        // 1. 기간 전체 데이터 일괄 조회
+        List<ScheduleDTO> regularSchedules = scheduleService.getSchedulesByDateRange(from, to);
+        Map<LocalDate, List<ScheduleDTO>> recurringSchedules = recurringScheduleService.getRecurringSchedulesGroupedByDate(from, to);
+        Map<LocalDate, Map<String, Boolean>> completionMaps = completionHistoryService.getCompletionMapsByDateRange(from, to);
+
+        // 2. 날짜별 목록 준비 (빈 날짜 포함)
+        Map<LocalDate, List<ScheduleDTO>> schedulesByDate = new LinkedHashMap<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            schedulesByDate.put(date, new ArrayList<>());
+        }
 
-        // 2. 반복 일정 조회
-        List<ScheduleDTO> recurringSchedules = recurringScheduleService.getRecurringSchedulesByDate(date);
+        // 3. 일반 일정은 기간과 겹치는 날짜마다 추가
+        for (ScheduleDTO schedule : regularSchedules) {
+            LocalDate first = max(from, schedule.getStartDate().toLocalDate());
+            LocalDate last = min(to, schedule.getEndDate().toLocalDate());
+            for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1)) {
+                schedulesByDate.get(date).add(applyCompletionStatus(
+                        schedule, completionMaps.getOrDefault(date, Map.of()), "S" + schedule.getId()));
+            }
+        }
 
-        // 반복 일정에 isRecurring 및 patternType 필드 추가
-        recurringSchedules = enrichRecurringSchedules(recurringSchedules);
+        // 4. 반복 일정 추가
+        recurringSchedules.forEach((date, schedules) -> {
+            Map<String, Boolean> completionMap = completionMaps.getOrDefault(date, Map.of());
+            List<ScheduleDTO> daySchedules = schedulesByDate.get(date);
+            for (ScheduleDTO schedule : schedules) {
+                daySchedules.add(applyCompletionStatus(schedule, completionMap, "R" + Math.abs(schedule.getId())));
+            }
+        });
 
-        // 3. 완료 상태 조회 및 맵 생성
-        List<CompletionHistoryDTO> completions = completionHistoryService.getCompletionByDate(date);
-        Map<String, Boolean> completionMap = completions.stream()
-                .collect(Collectors.toMap(
-                        c -> (c.getIsRecurring() ? "R" : "S") + c.getScheduleId(),
-                        CompletionHistoryDTO::getCompleted
-                ));
+        // 5. 날짜별 정렬
+        schedulesByDate.replaceAll((date, schedules) -> sortSchedules(schedules));
+        return schedulesByDate;
+    }
 
-        // 4. 완료 상태 적용
-        applyCompletionStatus(regularSchedules, completionMap, false);
-        applyCompletionStatus(recurringSchedules, completionMap, true);
+    /**
+     * 기간 내 일정 완료 통계
+     * 발생일 목록을 구한 뒤 완료 비트셋에서 발생일마다 비트 하나씩만 확인
+     * @param scheduleId 일정 ID (반복 일정은 패턴 ID)
+     * @param isRecurring 반복 일정 여부
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     */
+    @Transactional(readOnly = true)
+    public CompletionStatsDTO getCompletionStats(Long scheduleId, boolean isRecurring, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+
+        List<LocalDate> occurrences = isRecurring
+                ? recurringScheduleService.getOccurrenceDates(scheduleId, from, to)
+                : regularScheduleDays(scheduleService.getScheduleById(scheduleId), from, to);
+        CompletionBits bits = completionHistoryService.getCompletionBits(scheduleId, isRecurring, from, to);
+
+        // 현재 연속 완료는 오늘까지만 계산 (미래 발생일과 아직 완료하지 않은 오늘은 연속을 끊지 않음)
+        LocalDate today = LocalDate.now();
+        LocalDate streakEnd = min(to, today);
+
+        int completed = 0;
+        int streak = 0;
+        int currentStreak = 0;
+        int longestStreak = 0;
+        for (LocalDate date : occurrences) {
+            boolean done = bits.isCompleted(date);
+            if (done) {
+                completed++;
+                streak++;
+                longestStreak = Math.max(longestStreak, streak);
+            } else {
+                streak = 0;
+            }
 
-        // 5. 모든 일정 합치기
-        List<ScheduleDTO> allSchedules = new ArrayList<>();
-        allSchedules.addAll(regularSchedules);
-        allSchedules.addAll(recurringSchedules);
+            if (!date.isAfter(streakEnd)) {
+                if (done) {
+                    currentStreak++;
+                } else if (date.isBefore(today)) {
+                    currentStreak = 0;
+                }
+            }
+        }
 
-        // 6. 정렬 및 반환
-        return sortSchedules(allSchedules);
+        return CompletionStatsDTO.builder()
+                .scheduleId(scheduleId)
+                .isRecurring(isRecurring)
+                .from(from)
+                .to(to)
+                .totalOccurrences(occurrences.size())
+                .completedOccurrences(completed)
+                .completionRate(occurrences.isEmpty() ? 0.0 : (double) completed / occurrences.size())
+                .currentStreak(currentStreak)
+                .longestStreak(longestStreak)
+                .build();
     }
 
     /**
-     * 반복 일정에 필요한 정보 추가
+     * 일반 일정이 기간 내에서 걸쳐 있는 날짜 목록
      */
-    private List<ScheduleDTO> enrichRecurringSchedules(List<ScheduleDTO> recurringSchedules) {
-        return recurringSchedules.stream()
-                .map(schedule -> {
-                    // 음수 ID를 가진 일정은 반복 일정으로 간주
-                    if (schedule.getId() < 0) {
-                        // DTO에 필요한 필드가 없으므로 새로운 DTO 객체 생성
-                        return ScheduleDTO.builder()
-                                .id(schedule.getId())
-                                .content(schedule.getContent())
-                                .startDate(schedule.getStartDate())
-                                .endDate(schedule.getEndDate())
-                                .completed(schedule.getCompleted())
-                                .priority(schedule.getPriority())
-                                .description(schedule.getDescription())
-                                .createdAt(schedule.getCreatedAt())
-                                .updateAt(schedule.getUpdateAt())
-                                // 추가 필드
-                                .isRecurring(true)
-                                .patternType(getPatternTypeFromId(Math.abs(schedule.getId())))
-                                .build();
-                    }
-                    return schedule;
-                })
-                .collect(Collectors.toList());
+    private List<LocalDate> regularScheduleDays(ScheduleDTO schedule, LocalDate from, LocalDate to) {
+        List<LocalDate> days = new ArrayList<>();
+        if (schedule.getStartDate() == null || schedule.getEndDate() == null) {
+            return days;
+        }
+
+        LocalDate last = min(to, schedule.getEndDate().toLocalDate());
+        for (LocalDate date = max(from, schedule.getStartDate().toLocalDate()); !date.isAfter(last); date = date.plusDays(1)) {
+            days.add(date);
+        }
+        return days;
     }
 
     /**
-     * 반복 일정 ID로부터 패턴 타입 조회
+     * 조회 기간 검증 (시작일 <= 종료일, 최대 MAX_RANGE_DAYS 일)
      */
-    private String getPatternTypeFromId(Long recurringScheduleId) {
-        try {
-            Long memberId = getCurrentMemberId();
-
-            // 데이터베이스에서 반복 일정 조회
-            Optional<RecurringSchedule> scheduleOpt = recurringScheduleRepository.findByIdAndMemberId(
-                    recurringScheduleId, memberId);
-
-            // 조회된 반복 일정이 있으면 패턴 타입 반환
-            if (scheduleOpt.isPresent()) {
-                RecurringSchedule recurringSchedule = scheduleOpt.get();
-                log.debug("반복 일정 패턴 타입 조회: ID={}, 패턴={}",
-                        recurringScheduleId, recurringSchedule.getPatternType());
-                return recurringSchedule.getPatternType();
-            } else {
-                // 일정이 없으면 로그 남기고 기본값 반환
-                log.warn("반복 일정을 찾을 수 없음: ID={}, 회원ID={}", recurringScheduleId, memberId);
-                return "UNKNOWN";
-            }
-        } catch (Exception e) {
-            // 예외 발생 시 로그 기록하고 기본값 반환
-            log.error("반복 일정 패턴 타입 조회 중 오류 발생: ID={}", recurringScheduleId, e);
-            return "UNKNOWN";
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from) || from.plusDays(MAX_RANGE_DAYS).isBefore(to.plusDays(1))) {
+            throw new BusinessException(ErrorCode.INVALID_DATE_RANGE);
         }
     }
 
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
     /**
      * 완료 상태 적용 헬퍼 메소드
+     * 완료 이력이 있는 일정만 completed 값을 바꾼 새 객체로 교체
      */
-    private void applyCompletionStatus(List<ScheduleDTO> schedules, Map<String, Boolean> completionMap, boolean isRecurring) {
-        for (int i = 0; i < schedules.size(); i++) {
-            ScheduleDTO schedule = schedules.get(i);
-            Long scheduleId = isRecurring ? Math.abs(schedule.getId()) : schedule.getId();
-            String key = (isRecurring ? "R" : "S") + scheduleId;
-
-            if (completionMap.containsKey(key)) {
-                // 기존 DTO 객체의 값을 유지하면서 completed 속성만 업데이트한 새 객체 생성
-                ScheduleDTO.ScheduleDTOBuilder builder = ScheduleDTO.builder()
-                        .id(schedule.getId())
-                        .content(schedule.getContent())
-                        .startDate(schedule.getStartDate())
-                        .endDate(schedule.getEndDate())
-                        .completed(completionMap.get(key)) // 완료 상태 업데이트
-                        .priority(schedule.getPriority())
-                        .description(schedule.getDescription())
-                        .createdAt(schedule.getCreatedAt())
-                        .updateAt(schedule.getUpdateAt());
-
-                // 반복 일정인 경우 추가 필드 설정
-                if (isRecurring || schedule.getId() < 0) {
-                    builder.isRecurring(true);
-                    if (schedule.getPatternType() != null) {
-                        builder.patternType(schedule.getPatternType());
-                    } else {
-                        builder.patternType(getPatternTypeFromId(Math.abs(schedule.getId())));
-                    }
-                }
-
-                // 리스트의 해당 위치에 새 객체로 교체
-                schedules.set(i, builder.build());
-            }
+    private ScheduleDTO applyCompletionStatus(ScheduleDTO schedule, Map<String, Boolean> completionMap, String key) {
+        Boolean completed = completionMap.get(key);
+        if (completed == null) {
+            return schedule;
         }
+        return schedule.toBuilder()
+                .completed(completed)
+                .build();
     }
 
     /**
@@ -196,4 +247,4 @@ public class ScheduleQueryService {
                 )
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
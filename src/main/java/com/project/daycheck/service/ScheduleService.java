@@ -1,22 +1,30 @@
 package com.project.daycheck.service;
 
+import com.project.daycheck.config.security.CurrentMemberResolver;
 import com.project.daycheck.dto.ScheduleDTO;
 import com.project.daycheck.dto.request.ScheduleRequest;
-import com.project.daycheck.entity.Member;
+import com.project.daycheck.entity.ScheduleDayBucket;
 import com.project.daycheck.entity.Schedules;
 import com.project.daycheck.exception.BusinessException;
 import com.project.daycheck.exception.ErrorCode;
+import com.project.daycheck.repository.ScheduleDayBucketRepository;
 import com.project.daycheck.repository.ScheduleRepository;
+import com.project.daycheck.service.calendar.MemberDataVersion;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -27,20 +35,27 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ScheduleService {
 
+    // 스트리밍 조회 한 페이지 크기
+    private static final int EXPORT_PAGE_SIZE = 500;
+
+    private static final String EXPORT_PAGE_SQL = "SELECT id, member_id, content, start_date, end_date, completed, priority, "
+            + "description, long_span, created_at, updated_at FROM schedules WHERE member_id = ? AND id > ? ORDER BY id LIMIT ?";
+
     private final ScheduleRepository scheduleRepository;
-    private final MemberService memberService;
+    private final ScheduleDayBucketRepository scheduleDayBucketRepository;
+    private final CurrentMemberResolver currentMemberResolver;
+    private final MemberDataVersion memberDataVersion;
+    private final JdbcTemplate jdbcTemplate;
+
+    // true 면 날짜 버킷 테이블로 조회 (버킷은 설정과 관계없이 항상 유지)
+    @Value("${spring.schedule.day-bucket.enabled:false}")
+    private boolean dayBucketEnabled;
 
     /**
      * 현재 인증된 사용자의 ID를 가져옴
      */
     private Long getCurrentMemberId() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if(authentication == null || !authentication.isAuthenticated()){
-            throw new BusinessException(ErrorCode.UNAUTHORIZED_ACCESS);
-        }
-
-        Member member = memberService.findMemberByEmail(authentication.getName());
-        return member.getId();
+        return currentMemberResolver.getCurrentMemberId();
     }
 
     /**
@@ -56,6 +71,43 @@ public class ScheduleService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 현재 사용자의 모든 일정을 하나씩 전달 (스트리밍 응답용)
+     * ID 기준 키셋 페이지로 나누어 읽고 페이지를 다 읽은 뒤에 전달하므로, 느린 클라이언트에 쓰는 동안 커넥션이나 커서를 잡고 있지 않음
+     * 페이지 조회는 트랜잭션 없이 쿼리마다 자동 커밋되는 JdbcTemplate 으로 실행
+     * (JPA 로 읽으면 요청 범위 EntityManager(open-in-view)가 커넥션을 응답이 끝날 때까지 잡고 있음)
+     */
+    public void forEachSchedule(Consumer<? super ScheduleDTO> action) {
+        Long memberId = getCurrentMemberId();
+
+        long afterId = 0L;
+        while (true) {
+            List<ScheduleDTO> page = jdbcTemplate.query(EXPORT_PAGE_SQL, ScheduleService::mapExportRow,
+                    memberId, afterId, EXPORT_PAGE_SIZE);
+            page.forEach(action);
+            if (page.size() < EXPORT_PAGE_SIZE) {
+                return;
+            }
+            afterId = page.get(page.size() - 1).getId();
+        }
+    }
+
+    private static ScheduleDTO mapExportRow(ResultSet rs, int rowNum) throws SQLException {
+        return ScheduleDTO.fromEntity(Schedules.builder()
+                .id(rs.getLong("id"))
+                .memberId(rs.getLong("member_id"))
+                .content(rs.getString("content"))
+                .startDate(rs.getObject("start_date", LocalDateTime.class))
+                .endDate(rs.getObject("end_date", LocalDateTime.class))
+                .completed(rs.getObject("completed", Boolean.class))
+                .priority(rs.getString("priority"))
+                .description(rs.getString("description"))
+                .longSpan(rs.getBoolean("long_span"))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+                .build());
+    }
+
     /**
      * 특정 ID의 일정 조회
      */
@@ -76,11 +128,7 @@ public class ScheduleService {
         Long memberId = getCurrentMemberId();
 
         // 일반 일정만 조회
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime endOfDay = date.plusDays(1).atStartOfDay().minusNanos(1);
-
-        List<Schedules> regularSchedules = scheduleRepository.findSchedulesForDateRangeAndMember(
-                startOfDay, endOfDay, memberId);
+        List<Schedules> regularSchedules = findSchedulesInPeriod(memberId, date, date);
 
         // 엔티티를 DTO로 변환하여 반환
         return regularSchedules.stream()
@@ -88,12 +136,25 @@ public class ScheduleService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 기간(시작일 ~ 종료일, 포함)과 겹치는 일반 일정 조회
+     */
+    @Transactional(readOnly = true)
+    public List<ScheduleDTO> getSchedulesByDateRange(LocalDate startDate, LocalDate endDate) {
+        Long memberId = getCurrentMemberId();
+
+        return findSchedulesInPeriod(memberId, startDate, endDate).stream()
+                .map(ScheduleDTO::fromEntity)
+                .collect(Collectors.toList());
+    }
+
     /**
      * 새 일정 추가 (일반)
      */
     @Transactional
     public ScheduleDTO addSchedule(ScheduleRequest request){
         Long memberId = getCurrentMemberId();
+        memberDataVersion.bump(memberId);
 
         // 일정 생성
         Schedules schedules = Schedules.builder()
@@ -104,9 +165,11 @@ public class ScheduleService {
                 .priority(request.getPriority())
                 .description(request.getDescription())
                 .completed(request.getCompleted() != null ? request.getCompleted() : false)
+                .longSpan(ScheduleDayBucket.exceedsMaxSpan(request.getStartDate(), request.getEndDate()))
                 .build();
 
         Schedules savedSchedule = scheduleRepository.save(schedules);
+        saveDayBuckets(savedSchedule);
         return ScheduleDTO.fromEntity(savedSchedule);
     }
 
@@ -120,6 +183,10 @@ public class ScheduleService {
         // 일정 조회
         Schedules schedules = scheduleRepository.findByIdAndMemberId(scheduleId, memberId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
+        memberDataVersion.bump(memberId);
+
+        LocalDateTime previousStartDate = schedules.getStartDate();
+        LocalDateTime previousEndDate = schedules.getEndDate();
 
         // 일정 정보 업데이트
         schedules.updateContent(request.getContent());
@@ -133,6 +200,13 @@ public class ScheduleService {
         }
 
         Schedules updatedSchedule = scheduleRepository.save(schedules);
+
+        // 기간이 바뀌면 날짜 버킷 다시 생성
+        if (!Objects.equals(previousStartDate, updatedSchedule.getStartDate())
+                || !Objects.equals(previousEndDate, updatedSchedule.getEndDate())) {
+            scheduleDayBucketRepository.deleteByScheduleId(updatedSchedule.getId());
+            saveDayBuckets(updatedSchedule);
+        }
         return ScheduleDTO.fromEntity(updatedSchedule);
     }
 
@@ -146,6 +220,7 @@ public class ScheduleService {
         // 일정 조회
         Schedules schedules = scheduleRepository.findByIdAndMemberId(scheduleId, memberId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
+        memberDataVersion.bump(memberId);
 
         // 완료 상태 토글
         schedules.toggleComplete();
@@ -164,8 +239,43 @@ public class ScheduleService {
         // 일정 존재 확인
         Schedules schedules = scheduleRepository.findByIdAndMemberId(scheduleId, memberId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SCHEDULE_NOT_FOUND));
+        memberDataVersion.bump(memberId);
 
-        // 일정 삭제
+        // 일정 삭제 (날짜 버킷 먼저 삭제)
+        scheduleDayBucketRepository.deleteByScheduleId(schedules.getId());
         scheduleRepository.delete(schedules);
     }
+
+    /**
+     * 기간(시작일 ~ 종료일, 포함)과 겹치는 일반 일정 조회
+     */
+    private List<Schedules> findSchedulesInPeriod(Long memberId, LocalDate startDay, LocalDate endDay) {
+        LocalDateTime startOfPeriod = startDay.atStartOfDay();
+        LocalDateTime endOfPeriod = endDay.plusDays(1).atStartOfDay().minusNanos(1);
+
+        if (dayBucketEnabled) {
+            // 버킷이 없는 긴 일정은 기간 겹침 조건으로 추가 조회 (버킷 일정과 겹치지 않음)
+            List<Schedules> schedules = new ArrayList<>(scheduleRepository.findSchedulesByDayBucket(memberId, startDay, endDay));
+            schedules.addAll(scheduleRepository.findLongSpanSchedulesForDateRangeAndMember(startOfPeriod, endOfPeriod, memberId));
+            return schedules;
+        }
+
+        return scheduleRepository.findSchedulesForDateRangeAndMember(startOfPeriod, endOfPeriod, memberId);
+    }
+
+    /**
+     * 일정이 걸쳐 있는 날짜마다 버킷 저장 (긴 일정은 버킷 없이 기간 겹침 조건으로 조회)
+     */
+    private void saveDayBuckets(Schedules schedules) {
+        if (schedules.getStartDate() == null || schedules.getEndDate() == null || schedules.isLongSpan()) {
+            return;
+        }
+
+        LocalDate endDay = schedules.getEndDate().toLocalDate();
+        List<ScheduleDayBucket> buckets = new ArrayList<>();
+        for (LocalDate day = schedules.getStartDate().toLocalDate(); !day.isAfter(endDay); day = day.plusDays(1)) {
+            buckets.add(new ScheduleDayBucket(schedules.getMemberId(), day, schedules.getId()));
+        }
+        scheduleDayBucketRepository.saveAll(buckets);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,138 @@
+package com.project.daycheck.service.calendar;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.daycheck.dto.ScheduleDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+
+/**
+ * 회원, 날짜별 통합 일정(일반 + 반복 + 완료 상태) 캐시
+ * 키에 회원 데이터 버전(MemberDataVersion)을 담아, 버전이 바뀌면 이전 항목은 더 이상 조회되지 않음 (남은 항목은 용량/만료로 정리)
+ * 모든 쓰기가 버전을 올리므로 다른 인스턴스의 쓰기도 ETag 와 같은 시점(version-ttl-seconds 이내)에 반영됨
+ * - 완료 토글: 캐시된 목록에서 해당 일정의 완료 상태만 바꿔서 새 버전으로 옮김 (write-behind 모드는 버전이 그대로이므로 그 자리에서 교체)
+ */
+@Component
+public class DayViewCache {
+
+    private static final String CACHE_NAME = "dayView";
+
+    private final Cache<Key, List<ScheduleDTO>> cache;
+    private final MemberDataVersion memberDataVersion;
+    private final boolean enabled;
+    private final Counter completionPatches;
+
+    public DayViewCache(
+            MeterRegistry meterRegistry,
+            MemberDataVersion memberDataVersion,
+            @Value("${spring.schedule.day-view-cache.enabled:false}") boolean enabled,
+            @Value("${spring.schedule.day-view-cache.maximum-weight:100000}") long maximumWeight,
+            @Value("${spring.schedule.day-view-cache.expire-after-write-minutes:10}") long expireAfterWriteMinutes) {
+        this.memberDataVersion = memberDataVersion;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((Key key, List<ScheduleDTO> schedules) -> schedules.size() + 1)
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.completionPatches = Counter.builder("cache.invalidations")
+                .description("완료 토글로 통합 일정 캐시 목록을 고친 횟수")
+                .tag("cache", CACHE_NAME)
+                .tag("reason", "completion")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 회원의 특정 날짜 통합 일정 조회 (현재 회원 버전의 항목이 없으면 조립해서 저장)
+     * 조립 중에 쓰기가 커밋되어도 조립 전에 읽은 버전의 키로 저장되므로 새 버전에서는 보이지 않음
+     * @param loader 통합 일정 조립 (캐시에 없을 때만 호출)
+     * @return 날짜의 통합 일정 목록 (수정 불가)
+     */
+    public List<ScheduleDTO> get(Long memberId, LocalDate date, Supplier<List<ScheduleDTO>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Key key = new Key(memberId, memberDataVersion.version(memberId), date);
+        List<ScheduleDTO> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        List<ScheduleDTO> loaded = List.copyOf(loader.get());
+        cache.put(key, loaded);
+        return loaded;
+    }
+
+    /**
+     * 완료 토글 결과를 캐시된 목록에 반영 (커밋 후)
+     * 트랜잭션이 버전을 올렸으면 바로 이전 버전의 목록만 고쳐서 새 버전으로 옮김 (그 사이 다른 쓰기가 있었으면 옮길 목록이 없음)
+     * 목록에 해당 일정이 없으면 그대로 둠
+     */
+    public void applyCompletionAfterCommit(Long memberId, Long scheduleId, boolean isRecurring, LocalDate date, boolean completed) {
+        if (!enabled) {
+            return;
+        }
+
+        afterCommit(() -> {
+            completionPatches.increment();
+            OptionalLong bumped = memberDataVersion.bumpedVersion(memberId);
+            if (bumped.isEmpty()) {
+                cache.asMap().computeIfPresent(new Key(memberId, memberDataVersion.version(memberId), date),
+                        (key, schedules) -> patchCompletion(schedules, scheduleId, isRecurring, completed));
+                return;
+            }
+
+            long version = bumped.getAsLong();
+            List<ScheduleDTO> previous = cache.asMap().remove(new Key(memberId, version - 1, date));
+            if (previous != null) {
+                cache.put(new Key(memberId, version, date), patchCompletion(previous, scheduleId, isRecurring, completed));
+            }
+        });
+    }
+
+    /**
+     * 해당 일정의 완료 상태만 바꾼 새 목록 (일반 일정은 일정 ID, 반복 일정은 음수 패턴 ID 로 구분)
+     */
+    private static List<ScheduleDTO> patchCompletion(List<ScheduleDTO> schedules, Long scheduleId, boolean isRecurring, boolean completed) {
+        Long id = isRecurring ? -scheduleId : scheduleId;
+        List<ScheduleDTO> patched = new ArrayList<>(schedules.size());
+        for (ScheduleDTO schedule : schedules) {
+            boolean target = Objects.equals(schedule.getId(), id) && Boolean.TRUE.equals(schedule.getIsRecurring()) == isRecurring;
+            patched.add(target ? schedule.toBuilder().completed(completed).build() : schedule);
+        }
+        return List.copyOf(patched);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Key(Long memberId, long version, LocalDate date) {
+    }
+}
@@ -0,0 +1,207 @@
+package com.project.daycheck.service.calendar;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.daycheck.config.security.CurrentMemberResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회원 데이터 버전 (조회 API 의 ETag 생성용)
+ * 일정/반복 일정/완료 이력 쓰기 트랜잭션마다 커밋 직전에 member_data_version 의 회원 버전을 1 증가
+ * (버전 행 잠금을 트랜잭션 내내 잡지 않고 커밋하는 동안만 잡도록)
+ * 조회 시에는 메모리에 캐시한 버전으로 ETag 를 만들어 DB 조회 없이 304 응답 여부를 판단
+ * 인스턴스별 조회 캐시(통합 일정, 날짜 역색인)도 이 버전을 키에 담아 다른 인스턴스의 쓰기 후에는 다시 만듦
+ * 다른 인스턴스에서의 쓰기는 version-ttl-seconds 이후에 반영됨
+ */
+@Component
+public class MemberDataVersion {
+
+    private static final String CACHE_NAME = "memberDataVersion";
+
+    private static final String BUMP_SQL = "INSERT INTO member_data_version (member_id, data_version) VALUES (?, 1) "
+            + "ON DUPLICATE KEY UPDATE data_version = data_version + 1";
+
+    private static final String SELECT_SQL = "SELECT data_version FROM member_data_version WHERE member_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CurrentMemberResolver currentMemberResolver;
+    private final Cache<Long, Long> versions;
+
+    // 버전 증가 전에 변경 내용을 먼저 반영해 버전 행 잠금을 잡은 채 다른 행을 기다리지 않도록 함 (JPA 없이 만든 경우 null)
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // write-behind 버퍼에만 있는 변경 표시 (저장되면 제거)
+    // 재시작 후에도 이전 값과 겹치지 않도록 시작 시각으로 초기화
+    private final Map<Long, Long> pendingStamps = new ConcurrentHashMap<>();
+    private final AtomicLong stampSequence = new AtomicLong(System.currentTimeMillis() * 1000);
+
+    public MemberDataVersion(
+            JdbcTemplate jdbcTemplate,
+            CurrentMemberResolver currentMemberResolver,
+            MeterRegistry meterRegistry,
+            @Value("${spring.schedule.etag.maximum-size:10000}") long maximumSize,
+            @Value("${spring.schedule.etag.version-ttl-seconds:5}") long versionTtlSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.currentMemberResolver = currentMemberResolver;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(versionTtlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, versions, CACHE_NAME);
+    }
+
+    /**
+     * 쓰기 트랜잭션의 회원 버전 증가 예약 (커밋 직전에 회원마다 한 번 증가, 트랜잭션 밖이면 바로 증가)
+     * 캐시된 버전은 커밋 후 다른 캐시(통합 일정, 완료 인덱스) 갱신이 모두 끝난 다음 새 버전으로 교체
+     * (새 ETag 로 이전 캐시 데이터를 응답하지 않도록)
+     */
+    public void bump(Long memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            jdbcTemplate.update(BUMP_SQL, memberId);
+            versions.invalidate(memberId);
+            return;
+        }
+
+        PendingBump pending = currentPendingBump();
+        if (pending == null) {
+            pending = new PendingBump();
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.memberIds.add(memberId);
+    }
+
+    /**
+     * 회원의 현재 데이터 버전 (캐시, 다른 인스턴스의 쓰기는 version-ttl-seconds 이후에 반영)
+     */
+    public long version(Long memberId) {
+        return versions.get(memberId, this::loadVersion);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋하면서 올린 회원 버전 (커밋 후 콜백에서만 값이 있음, 증가시키지 않았으면 빈 값)
+     * 같은 트랜잭션에서 버전 행을 잠근 채 읽은 값이므로 바로 이전 버전은 항상 이 값 - 1
+     */
+    public OptionalLong bumpedVersion(Long memberId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return OptionalLong.empty();
+        }
+        PendingBump pending = currentPendingBump();
+        Long version = pending != null ? pending.bumped.get(memberId) : null;
+        return version != null ? OptionalLong.of(version) : OptionalLong.empty();
+    }
+
+    /**
+     * 현재 트랜잭션에 예약된 버전 증가 (일시 중단된 바깥 트랜잭션의 예약은 보이지 않음)
+     */
+    private PendingBump currentPendingBump() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingBump pending && pending.owner() == this) {
+                return pending;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * write-behind 버퍼에 기록된 변경 표시 (버퍼에 반영한 다음 호출)
+     */
+    public void markPending(Long memberId) {
+        pendingStamps.put(memberId, stampSequence.incrementAndGet());
+    }
+
+    /**
+     * 저장 대기 중인 변경 표시 (없으면 0)
+     */
+    public long pendingStamp(Long memberId) {
+        return pendingStamps.getOrDefault(memberId, 0L);
+    }
+
+    /**
+     * write-behind 저장 후 호출 (저장 트랜잭션에서 버전을 이미 증가시킨 경우)
+     * 캐시된 버전을 제거하고, 저장 전에 읽은 표시 이후 새 변경이 없으면 표시도 제거
+     */
+    public void flushed(Long memberId, long stamp) {
+        versions.invalidate(memberId);
+        if (stamp != 0L) {
+            pendingStamps.remove(memberId, stamp);
+        }
+    }
+
+    /**
+     * write-behind 저장 트랜잭션 안에서 여러 회원 버전 증가 (커밋 후 회원마다 flushed 호출)
+     */
+    public void bumpAll(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(BUMP_SQL, memberIds, memberIds.size(), (ps, memberId) -> ps.setLong(1, memberId));
+    }
+
+    /**
+     * 현재 회원의 데이터 ETag (강한 검증자)
+     * 응답 본문을 만들기 전에 구해야 새 데이터가 이전 ETag 로 캐시되지 않음
+     */
+    public String currentETag() {
+        Long memberId = currentMemberResolver.getCurrentMemberId();
+        long version = version(memberId);
+        long stamp = pendingStamp(memberId);
+        return "\"" + memberId + "-" + version + (stamp != 0L ? "-" + stamp : "") + "\"";
+    }
+
+    private long loadVersion(Long memberId) {
+        List<Long> result = jdbcTemplate.queryForList(SELECT_SQL, Long.class, memberId);
+        return result.isEmpty() ? 0L : result.get(0);
+    }
+
+    /**
+     * 트랜잭션에서 버전을 증가시킬 회원 목록 (회원마다 한 번만 증가)
+     * 증가 후 같은 트랜잭션에서 새 버전을 읽어 두고, 커밋되면 버전 캐시를 제거하지 않고 새 버전으로 교체
+     */
+    private final class PendingBump implements TransactionSynchronization {
+
+        private final Set<Long> memberIds = new LinkedHashSet<>();
+        private final Map<Long, Long> bumped = new HashMap<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (entityManager != null && entityManager.isJoinedToTransaction()) {
+                entityManager.flush();
+            }
+            bumpAll(memberIds);
+            memberIds.forEach(memberId -> bumped.put(memberId, loadVersion(memberId)));
+        }
+
+        private MemberDataVersion owner() {
+            return MemberDataVersion.this;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status == STATUS_COMMITTED) {
+                versions.putAll(bumped);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.project.daycheck.service.calendar;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
+
+/**
+ * 통합 일정 조회의 독립적인 조회(일반/반복/완료)를 동시에 실행하는 제한된 스레드 풀
+ * 작업 스레드에는 요청 스레드의 인증 정보, 요청 속성, MDC 를 전달
+ * 각 조회는 작업 스레드에서 자기 읽기 전용 트랜잭션(@Transactional(readOnly = true))으로 실행되므로
+ * 호출하는 쪽 트랜잭션 안에서는 (커밋 전 데이터를 볼 수 없으므로) 나누지 않고 그 자리에서 실행
+ * 풀과 대기열이 가득 차면 요청 스레드에서 실행 (순차 조회와 같아짐)
+ * 요청 하나가 커넥션을 여러 개 동시에 쓰므로 pool-size 는 커넥션 풀보다 작게 유지
+ */
+@Component
+public class QueryFanOutExecutor {
+
+    private static final String EXECUTOR_NAME = "scheduleQueryFanOut";
+
+    private final ThreadPoolTaskExecutor executor;
+
+    public QueryFanOutExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${spring.schedule.parallel-fan-out.enabled:false}") boolean enabled,
+            @Value("${spring.schedule.parallel-fan-out.pool-size:4}") int poolSize,
+            @Value("${spring.schedule.parallel-fan-out.queue-capacity:200}") int queueCapacity) {
+        if (!enabled) {
+            this.executor = null;
+            return;
+        }
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("query-fan-out-");
+        executor.setTaskDecorator(QueryFanOutExecutor::propagateContext);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(), EXECUTOR_NAME);
+    }
+
+    public boolean isEnabled() {
+        return executor != null;
+    }
+
+    /**
+     * 조회 실행 (꺼져 있거나 트랜잭션 안이면 그 자리에서 실행)
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> query) {
+        if (executor == null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return CompletableFuture.completedFuture(query.get());
+        }
+        return CompletableFuture.supplyAsync(query, executor);
+    }
+
+    /**
+     * 조회 결과 대기 (작업 스레드에서 발생한 예외는 그대로 다시 던짐)
+     */
+    public static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 제출한 스레드의 컨텍스트를 작업 실행 동안만 설정 (요청 스레드에서 실행되는 경우를 위해 끝나면 이전 값으로 복원)
+     */
+    private static Runnable propagateContext(Runnable task) {
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+
+        return () -> {
+            SecurityContext previousSecurityContext = SecurityContextHolder.getContext();
+            RequestAttributes previousRequestAttributes = RequestContextHolder.getRequestAttributes();
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+
+            SecurityContextHolder.setContext(securityContext);
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            setMdc(mdc);
+            try {
+                task.run();
+            } finally {
+                SecurityContextHolder.setContext(previousSecurityContext);
+                RequestContextHolder.setRequestAttributes(previousRequestAttributes);
+                setMdc(previousMdc);
+            }
+        };
+    }
+
+    private static void setMdc(Map<String, String> contextMap) {
+        if (contextMap == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(contextMap);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.project.daycheck.service.completion;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+
+/**
+ * 일정 하나의 날짜별 완료 상태 비트셋
+ * epoch-day 를 기준일(baseEpochDay, 64의 배수)로부터의 오프셋으로 저장
+ * - recorded: 완료 이력이 있는 날
+ * - completed: 완료 상태인 날
+ * 동기화하지 않으므로 공유 시에는 MemberCompletionIndex 를 통해 접근
+ */
+public final class CompletionBits {
+
+    private long baseEpochDay;
+    private BitSet recorded;
+    private BitSet completed;
+
+    CompletionBits(long firstEpochDay) {
+        this.baseEpochDay = alignDown(firstEpochDay);
+        this.recorded = new BitSet();
+        this.completed = new BitSet();
+    }
+
+    private CompletionBits(CompletionBits source) {
+        this.baseEpochDay = source.baseEpochDay;
+        this.recorded = (BitSet) source.recorded.clone();
+        this.completed = (BitSet) source.completed.clone();
+    }
+
+    /**
+     * 날짜의 완료 상태 설정
+     */
+    void set(LocalDate date, boolean done) {
+        long epochDay = date.toEpochDay();
+        if (epochDay < baseEpochDay) {
+            rebase(epochDay);
+        }
+
+        int offset = (int) (epochDay - baseEpochDay);
+        recorded.set(offset);
+        completed.set(offset, done);
+    }
+
+    /**
+     * 해당 날짜에 완료 이력이 있는지
+     */
+    public boolean isRecorded(LocalDate date) {
+        int offset = offsetOf(date.toEpochDay());
+        return offset >= 0 && recorded.get(offset);
+    }
+
+    /**
+     * 해당 날짜에 완료 상태인지
+     */
+    public boolean isCompleted(LocalDate date) {
+        int offset = offsetOf(date.toEpochDay());
+        return offset >= 0 && completed.get(offset);
+    }
+
+    /**
+     * 기간(포함) 내 완료된 날 수
+     */
+    public int countCompleted(LocalDate from, LocalDate to) {
+        int fromOffset = Math.max(offsetOf(from.toEpochDay()), 0);
+        long toOffset = to.toEpochDay() - baseEpochDay;
+        if (toOffset < fromOffset) {
+            return 0;
+        }
+
+        int end = (int) Math.min(toOffset + 1, completed.length());
+        return fromOffset >= end ? 0 : completed.get(fromOffset, end).cardinality();
+    }
+
+    /**
+     * 복사본 (통계 계산 등 잠금 밖에서 읽을 때 사용)
+     */
+    CompletionBits copy() {
+        return new CompletionBits(this);
+    }
+
+    /**
+     * 기준일보다 이른 날짜가 들어오면 기준일을 앞당기고 비트를 64 단위(워드)로 밀어냄
+     */
+    private void rebase(long epochDay) {
+        long newBase = alignDown(epochDay);
+        int shiftWords = (int) ((baseEpochDay - newBase) / Long.SIZE);
+
+        recorded = shift(recorded, shiftWords);
+        completed = shift(completed, shiftWords);
+        baseEpochDay = newBase;
+    }
+
+    private int offsetOf(long epochDay) {
+        long offset = epochDay - baseEpochDay;
+        return offset < 0 || offset > Integer.MAX_VALUE ? -1 : (int) offset;
+    }
+
+    private static BitSet shift(BitSet bits, int words) {
+        long[] source = bits.toLongArray();
+        long[] shifted = new long[source.length + words];
+        System.arraycopy(source, 0, shifted, words, source.length);
+        return BitSet.valueOf(shifted);
+    }
+
+    private static long alignDown(long epochDay) {
+        return Math.floorDiv(epochDay, Long.SIZE) * Long.SIZE;
+    }
+}
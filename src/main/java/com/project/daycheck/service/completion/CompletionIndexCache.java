@@ -0,0 +1,94 @@
+package com.project.daycheck.service.completion;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.daycheck.entity.CompletionHistory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * 회원별 완료 상태 인덱스 캐시
+ * 조회 기간 앞뒤로 window-margin-days 만큼 넓힌 기간의 완료 이력으로 인덱스를 만들고 (회원의 전체 이력을 읽지 않음)
+ * 인덱스 기간 밖을 조회하면 그 기간으로 다시 생성, 토글 시에는 커밋 후 인덱스를 직접 갱신
+ * 인스턴스 메모리에만 있으므로 다른 인스턴스에서의 변경은 expire-after-write 이후에 반영됨
+ */
+@Component
+public class CompletionIndexCache {
+
+    private static final String CACHE_NAME = "completionIndex";
+
+    private final Cache<Long, MemberCompletionIndex> cache;
+    private final long windowMarginDays;
+
+    public CompletionIndexCache(
+            MeterRegistry meterRegistry,
+            @Value("${spring.completion.index.maximum-size:10000}") long maximumSize,
+            @Value("${spring.completion.index.expire-after-write-minutes:30}") long expireAfterWriteMinutes,
+            @Value("${spring.completion.index.window-margin-days:90}") long windowMarginDays) {
+        this.windowMarginDays = windowMarginDays;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 기간(포함)을 담은 회원의 완료 인덱스 조회 (없거나 기간 밖이면 넓힌 기간의 완료 이력으로 다시 생성)
+     * @param memberId 회원 ID
+     * @param completions 기간 내 완료 이력 조회 (시작일, 종료일), 생성이 필요할 때만 호출
+     */
+    public MemberCompletionIndex get(Long memberId, LocalDate from, LocalDate to,
+                                     BiFunction<LocalDate, LocalDate, List<CompletionHistory>> completions) {
+        MemberCompletionIndex cached = cache.getIfPresent(memberId);
+        if (cached != null && cached.covers(from, to)) {
+            return cached;
+        }
+
+        LocalDate windowFrom = from.minusDays(windowMarginDays);
+        LocalDate windowTo = to.plusDays(windowMarginDays);
+        return cache.asMap().compute(memberId, (id, existing) -> existing != null && existing.covers(from, to)
+                ? existing
+                : MemberCompletionIndex.of(windowFrom, windowTo, completions.apply(windowFrom, windowTo)));
+    }
+
+    /**
+     * 토글 결과를 커밋 후 인덱스에 반영 (인덱스가 아직 없으면 다음 조회 때 DB 에서 생성)
+     * 생성 중인 인덱스가 있으면 생성이 끝난 뒤 반영되므로 이전 데이터로 만든 인덱스가 남지 않음
+     */
+    public void applyAfterCommit(Long memberId, Long scheduleId, boolean isRecurring, LocalDate date, boolean completed) {
+        Runnable update = () -> apply(memberId, scheduleId, isRecurring, date, completed);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    /**
+     * 저장이 끝난 완료 상태를 바로 인덱스에 반영 (인덱스가 없으면 무시)
+     */
+    public void apply(Long memberId, Long scheduleId, boolean isRecurring, LocalDate date, boolean completed) {
+        cache.asMap().computeIfPresent(memberId, (id, index) -> {
+            index.set(scheduleId, isRecurring, date, completed);
+            return index;
+        });
+    }
+}
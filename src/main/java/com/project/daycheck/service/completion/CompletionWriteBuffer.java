@@ -0,0 +1,377 @@
+package com.project.daycheck.service.completion;
+
+import com.project.daycheck.service.calendar.MemberDataVersion;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+/**
+ * 완료 토글 write-behind 버퍼
+ * 토글을 회원별 메모리 버퍼에 모아 두고(두 번 토글하면 상쇄) 주기적으로 홀수 번 토글된 항목만 JDBC 배치로 반전
+ * 절대값이 아니라 반전으로 저장하므로 다른 인스턴스가 그 사이 같은 항목을 바꿔도 덮어쓰지 않음
+ * 조회 시 버퍼 내용을 덮어쓰면 자기 쓰기가 바로 보임
+ * 회원 데이터 버전은 토글 시 저장 대기 표시만 남기고, 저장 트랜잭션에서 회원별로 한 번씩 증가
+ * 버퍼가 max-pending 에 도달하면 저장 전용 스레드에 저장을 요청하고 토글은 기다리지 않음 (DB 장애 중에는 버퍼가 그 이상 커질 수 있음)
+ * 인스턴스 메모리에만 있으므로 비정상 종료 시 마지막 저장 이후의 토글은 유실될 수 있음
+ */
+@Slf4j
+@Component
+public class CompletionWriteBuffer {
+
+    // 저장된 상태를 반전 (없으면 완료 상태로 생성), 실패한 트랜잭션은 롤백되므로 다음 저장 때 한 번만 다시 반전
+    private static final String TOGGLE_SQL = "INSERT INTO schedule_completion_history "
+            + "(member_id, schedule_id, is_recurring, completion_date, completed, create_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, TRUE, CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6)) "
+            + "ON DUPLICATE KEY UPDATE completed = NOT completed, updated_at = CURRENT_TIMESTAMP(6)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CompletionIndexCache completionIndexCache;
+    private final MemberDataVersion memberDataVersion;
+    private final boolean enabled;
+    private final int maxPending;
+    private final int batchSize;
+
+    private final Map<Long, MemberPending> pendingByMember = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ThreadPoolTaskExecutor flushExecutor;
+
+    public CompletionWriteBuffer(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            CompletionIndexCache completionIndexCache,
+            MemberDataVersion memberDataVersion,
+            @Value("${spring.completion.write-behind.enabled:false}") boolean enabled,
+            @Value("${spring.completion.write-behind.max-pending:10000}") int maxPending,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:100}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.completionIndexCache = completionIndexCache;
+        this.memberDataVersion = memberDataVersion;
+        this.enabled = enabled;
+        this.maxPending = maxPending;
+        this.batchSize = batchSize;
+
+        if (!enabled) {
+            this.flushExecutor = null;
+            return;
+        }
+        // 요청은 flushRequested 로 하나로 합치므로 실행 중 하나와 대기 하나면 충분
+        this.flushExecutor = new ThreadPoolTaskExecutor();
+        flushExecutor.setCorePoolSize(1);
+        flushExecutor.setMaxPoolSize(1);
+        flushExecutor.setQueueCapacity(1);
+        flushExecutor.setThreadNamePrefix("completion-flush-");
+        flushExecutor.setWaitForTasksToCompleteOnShutdown(true);
+        flushExecutor.setAwaitTerminationSeconds(30);
+        flushExecutor.initialize();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 완료 상태 토글을 버퍼에 기록
+     * @param persistedState 저장된 완료 상태 공급자 (버퍼에 없는 항목만 회원 단위 잠금 안에서 호출)
+     * @return 토글 후 완료 상태
+     */
+    public boolean toggle(Long memberId, Long scheduleId, boolean isRecurring, LocalDate date, BooleanSupplier persistedState) {
+        PendingKey key = new PendingKey(scheduleId, isRecurring, date);
+        boolean completed;
+
+        while (true) {
+            MemberPending member = pendingByMember.computeIfAbsent(memberId, id -> new MemberPending());
+            member.lock.lock();
+            try {
+                if (member.retired) {
+                    continue;
+                }
+
+                Pending pending = member.states.get(key);
+                if (pending == null) {
+                    completed = !persistedState.getAsBoolean();
+                    member.states.put(key, new Pending(completed));
+                    pendingCount.incrementAndGet();
+                    break;
+                }
+
+                pending.completed = !pending.completed;
+                pending.flipped = !pending.flipped;
+                completed = pending.completed;
+                if (!pending.flipped && !pending.inFlight) {
+                    // 짝수 번 토글되어 저장할 반전이 없으면 상쇄
+                    member.states.remove(key);
+                    pendingCount.decrementAndGet();
+                }
+                break;
+            } finally {
+                member.lock.unlock();
+            }
+        }
+
+        // 버퍼에 반영한 다음 표시 (표시가 먼저 바뀌면 새 ETag 로 이전 상태를 응답할 수 있음)
+        memberDataVersion.markPending(memberId);
+
+        // 버퍼가 가득 차면 저장만 요청하고 바로 반환 (저장 지연이나 실패가 토글 응답에 영향을 주지 않음)
+        if (pendingCount.get() >= maxPending) {
+            requestFlush();
+        }
+        return completed;
+    }
+
+    /**
+     * 저장 전용 스레드에 저장 요청 (이미 요청되어 대기 중이면 무시)
+     */
+    private void requestFlush() {
+        if (flushExecutor == null || !flushRequested.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flushQuietly();
+            });
+        } catch (TaskRejectedException e) {
+            // 종료 중이면 종료 전 저장에 맡김
+            flushRequested.set(false);
+        }
+    }
+
+    /**
+     * 회원의 저장 대기 중인 완료 상태 목록
+     */
+    public List<PendingCompletion> getPending(Long memberId, Predicate<PendingCompletion> filter) {
+        MemberPending member = pendingByMember.get(memberId);
+        if (member == null) {
+            return List.of();
+        }
+
+        List<PendingCompletion> result = new ArrayList<>();
+        member.lock.lock();
+        try {
+            member.states.forEach((key, pending) -> {
+                PendingCompletion completion = new PendingCompletion(key.scheduleId(), key.isRecurring(), key.date(), pending.completed);
+                if (filter.test(completion)) {
+                    result.add(completion);
+                }
+            });
+        } finally {
+            member.lock.unlock();
+        }
+        return result;
+    }
+
+    /**
+     * 완료 비트셋에 저장 대기 중인 완료 상태를 반영
+     */
+    public CompletionBits overlay(Long memberId, Long scheduleId, boolean isRecurring, CompletionBits bits) {
+        for (PendingCompletion pending : getPending(memberId,
+                p -> p.scheduleId().equals(scheduleId) && p.isRecurring() == isRecurring)) {
+            bits.set(pending.date(), pending.completed());
+        }
+        return bits;
+    }
+
+    @Scheduled(fixedDelayString = "${spring.completion.write-behind.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        if (!enabled) {
+            return;
+        }
+        flushQuietly();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("완료 상태 일괄 저장 실패 (다음 주기에 재시도): {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
+        }
+        if (pendingCount.get() > 0) {
+            log.info("종료 전 저장 대기 중인 완료 상태 저장: {}건", pendingCount.get());
+            flush();
+        }
+    }
+
+    /**
+     * 저장 대기 중인 완료 상태를 한 트랜잭션에서 배치로 저장
+     * 저장하는 동안 버퍼 내용은 그대로 두고(조회 시 계속 보임), 커밋 후 회원 단위 잠금 안에서 인덱스 갱신과 버퍼 제거를 함께 처리
+     * 실패하면 버퍼에 남아 다음 저장 때 다시 시도
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Long, Long> stamps = new HashMap<>();
+            List<PendingWrite> writes = snapshot(stamps);
+            if (writes.isEmpty()) {
+                return;
+            }
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.batchUpdate(TOGGLE_SQL, writes, batchSize, (ps, write) -> {
+                        ps.setLong(1, write.memberId());
+                        ps.setLong(2, write.key().scheduleId());
+                        ps.setBoolean(3, write.key().isRecurring());
+                        ps.setDate(4, Date.valueOf(write.key().date()));
+                    });
+                    memberDataVersion.bumpAll(stamps.keySet());
+                });
+            } catch (RuntimeException e) {
+                writes.forEach(this::release);
+                throw e;
+            }
+
+            writes.forEach(this::complete);
+            stamps.forEach(memberDataVersion::flushed);
+            retireEmptyMembers();
+            log.debug("완료 상태 일괄 저장: {}건", writes.size());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 저장할 항목 목록 (반전을 저장 중으로 옮겨 표시)
+     * @param stamps 저장할 항목이 있는 회원별 저장 대기 표시를 담을 맵
+     */
+    private List<PendingWrite> snapshot(Map<Long, Long> stamps) {
+        List<PendingWrite> writes = new ArrayList<>();
+        pendingByMember.forEach((memberId, member) -> {
+            member.lock.lock();
+            try {
+                if (!member.states.isEmpty()) {
+                    stamps.put(memberId, memberDataVersion.pendingStamp(memberId));
+                }
+                member.states.forEach((key, pending) -> {
+                    if (pending.flipped) {
+                        pending.flipped = false;
+                        pending.inFlight = true;
+                        writes.add(new PendingWrite(memberId, key, pending.completed));
+                    }
+                });
+            } finally {
+                member.lock.unlock();
+            }
+        });
+        return writes;
+    }
+
+    /**
+     * 저장된 상태를 인덱스에 반영하고 버퍼에서 제거
+     * 저장 중에 다시 홀수 번 토글되었다면 남겨 두고 다음 저장 때 반영
+     */
+    private void complete(PendingWrite write) {
+        MemberPending member = pendingByMember.get(write.memberId());
+        member.lock.lock();
+        try {
+            PendingKey key = write.key();
+            completionIndexCache.apply(write.memberId(), key.scheduleId(), key.isRecurring(), key.date(), write.completed());
+
+            Pending pending = member.states.get(key);
+            pending.inFlight = false;
+            if (!pending.flipped) {
+                member.states.remove(key);
+                pendingCount.decrementAndGet();
+            }
+        } finally {
+            member.lock.unlock();
+        }
+    }
+
+    /**
+     * 저장 실패 시 저장하지 못한 반전을 버퍼에 되돌림
+     * 저장 중에 다시 홀수 번 토글되었다면 두 반전이 상쇄되므로 제거
+     */
+    private void release(PendingWrite write) {
+        MemberPending member = pendingByMember.get(write.memberId());
+        member.lock.lock();
+        try {
+            Pending pending = member.states.get(write.key());
+            pending.inFlight = false;
+            pending.flipped = !pending.flipped;
+            if (!pending.flipped) {
+                member.states.remove(write.key());
+                pendingCount.decrementAndGet();
+            }
+        } finally {
+            member.lock.unlock();
+        }
+    }
+
+    private void retireEmptyMembers() {
+        pendingByMember.forEach((memberId, member) -> {
+            member.lock.lock();
+            try {
+                if (member.states.isEmpty()) {
+                    member.retired = true;
+                    pendingByMember.remove(memberId, member);
+                }
+            } finally {
+                member.lock.unlock();
+            }
+        });
+    }
+
+    private record PendingKey(Long scheduleId, boolean isRecurring, LocalDate date) {
+    }
+
+    private record PendingWrite(Long memberId, PendingKey key, boolean completed) {
+    }
+
+    /**
+     * 저장 대기 중인 완료 상태
+     * completed: 토글 후 예상 상태, flipped: 아직 저장하지 않은 반전이 있음(홀수 번 토글), inFlight: 반전을 저장 중
+     */
+    private static final class Pending {
+        private boolean completed;
+        private boolean flipped = true;
+        private boolean inFlight;
+
+        private Pending(boolean completed) {
+            this.completed = completed;
+        }
+    }
+
+    /**
+     * 회원별 버퍼 (회원 단위 잠금)
+     * 잠금 안에서 저장된 상태를 DB 에서 읽으므로 synchronized 대신 ReentrantLock 사용 (가상 스레드가 캐리어 스레드에 고정되지 않도록)
+     * 비어서 제거된 버퍼는 retired 로 표시해 제거 직전에 참조를 얻은 토글이 새 버퍼를 다시 만들도록 함
+     */
+    private static final class MemberPending {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<PendingKey, Pending> states = new HashMap<>();
+        private boolean retired;
+    }
+}
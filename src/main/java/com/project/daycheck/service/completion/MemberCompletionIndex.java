@@ -0,0 +1,86 @@
+package com.project.daycheck.service.completion;
+
+import com.project.daycheck.entity.CompletionHistory;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회원 한 명의 완료 상태 인덱스
+ * 일정 키("S{id}" 일반 / "R{id}" 반복) 별 CompletionBits 보관
+ * 회원의 전체 이력이 아니라 기간(from ~ to, 포함)의 이력만 담고, 기간 밖의 날짜는 조회/반영하지 않음
+ */
+public final class MemberCompletionIndex {
+
+    private final Map<String, CompletionBits> bitsBySchedule = new HashMap<>();
+    private final LocalDate from;
+    private final LocalDate to;
+
+    private MemberCompletionIndex(LocalDate from, LocalDate to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * 기간 내 완료 이력 목록으로 인덱스 생성
+     */
+    public static MemberCompletionIndex of(LocalDate from, LocalDate to, List<CompletionHistory> completions) {
+        MemberCompletionIndex index = new MemberCompletionIndex(from, to);
+        for (CompletionHistory completion : completions) {
+            if (!index.covers(completion.getCompletionDate())) {
+                continue;
+            }
+            // 같은 날 이력이 중복되어 있으면 하나라도 완료면 완료 (getCompletionMapByDate 와 같은 기준)
+            CompletionBits bits = index.bitsFor(completion.getScheduleId(), completion.getIsRecurring(), completion.getCompletionDate());
+            bits.set(completion.getCompletionDate(),
+                    completion.getCompleted() || bits.isCompleted(completion.getCompletionDate()));
+        }
+        return index;
+    }
+
+    public static String keyOf(Long scheduleId, boolean isRecurring) {
+        return (isRecurring ? "R" : "S") + scheduleId;
+    }
+
+    /**
+     * 기간(포함)이 인덱스 기간 안에 있는지
+     */
+    public boolean covers(LocalDate startDate, LocalDate endDate) {
+        return !startDate.isBefore(from) && !endDate.isAfter(to);
+    }
+
+    private boolean covers(LocalDate date) {
+        return covers(date, date);
+    }
+
+    /**
+     * 완료 상태 설정 (토글 결과 반영, 인덱스 기간 밖이면 무시)
+     */
+    public synchronized void set(Long scheduleId, boolean isRecurring, LocalDate date, boolean completed) {
+        if (covers(date)) {
+            bitsFor(scheduleId, isRecurring, date).set(date, completed);
+        }
+    }
+
+    /**
+     * 해당 날짜에 완료했는지
+     */
+    public synchronized boolean isCompleted(Long scheduleId, boolean isRecurring, LocalDate date) {
+        CompletionBits bits = bitsBySchedule.get(keyOf(scheduleId, isRecurring));
+        return bits != null && bits.isCompleted(date);
+    }
+
+    private CompletionBits bitsFor(Long scheduleId, boolean isRecurring, LocalDate date) {
+        return bitsBySchedule.computeIfAbsent(keyOf(scheduleId, isRecurring), key -> new CompletionBits(date.toEpochDay()));
+    }
+
+    /**
+     * 일정의 완료 비트셋 복사본 (이력이 없으면 빈 비트셋)
+     */
+    public synchronized CompletionBits snapshot(Long scheduleId, boolean isRecurring) {
+        CompletionBits bits = bitsBySchedule.get(keyOf(scheduleId, isRecurring));
+        return bits != null ? bits.copy() : new CompletionBits(0);
+    }
+}
@@ -0,0 +1,16 @@
+package com.project.daycheck.service.completion;
+
+import java.time.LocalDate;
+
+/**
+ * 아직 저장되지 않은(write-behind 버퍼에 있는) 완료 상태
+ */
+public record PendingCompletion(Long scheduleId, boolean isRecurring, LocalDate date, boolean completed) {
+
+    /**
+     * 같은 일정, 같은 날짜의 완료 상태인지
+     */
+    public boolean matches(Long scheduleId, Boolean isRecurring, LocalDate date) {
+        return this.scheduleId.equals(scheduleId) && this.isRecurring == isRecurring && this.date.equals(date);
+    }
+}
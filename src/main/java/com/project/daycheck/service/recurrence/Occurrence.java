@@ -0,0 +1,45 @@
+package com.project.daycheck.service.recurrence;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+
+/**
+ * 반복 일정 발생 하나 (날짜, 패턴 ID)
+ * 날짜 오름차순, 같은 날짜 안에서는 패턴 ID 오름차순으로 정렬되며 페이지 커서("날짜:패턴 ID")로도 사용
+ */
+public record Occurrence(LocalDate date, long patternId) implements Comparable<Occurrence> {
+
+    private static final Comparator<Occurrence> ORDER = Comparator
+            .comparing(Occurrence::date)
+            .thenComparingLong(Occurrence::patternId);
+
+    private static final char CURSOR_SEPARATOR = ':';
+
+    @Override
+    public int compareTo(Occurrence other) {
+        return ORDER.compare(this, other);
+    }
+
+    public String toCursor() {
+        return date.toString() + CURSOR_SEPARATOR + patternId;
+    }
+
+    /**
+     * 페이지 커서를 발생으로 변환
+     * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+     */
+    public static Occurrence fromCursor(String cursor) {
+        int separator = cursor.lastIndexOf(CURSOR_SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("잘못된 커서: " + cursor);
+        }
+
+        try {
+            return new Occurrence(
+                    LocalDate.parse(cursor.substring(0, separator)),
+                    Long.parseLong(cursor.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.project.daycheck.service.recurrence;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * 반복 일정 기간 전개기
+ * 날짜를 하루씩 검사하지 않고 매처로 다음 발생일을 바로 계산
+ */
+public final class RecurrenceExpander {
+
+    private RecurrenceExpander() {
+    }
+
+    /**
+     * 기간 내 패턴의 발생일 목록 (오름차순)
+     * @param matcher 컴파일된 반복 일정 매처
+     * @param from 조회 시작일 (포함)
+     * @param to 조회 종료일 (포함)
+     * @return 발생일 목록
+     */
+    public static List<LocalDate> expand(RecurrenceMatcher matcher, LocalDate from, LocalDate to) {
+        List<LocalDate> result = new ArrayList<>();
+        long last = to.toEpochDay();
+
+        for (long epochDay = matcher.nextOccurrence(from.toEpochDay());
+             epochDay <= last;
+             epochDay = matcher.nextOccurrence(epochDay + 1)) {
+            result.add(LocalDate.ofEpochDay(epochDay));
+        }
+
+        return result;
+    }
+
+    /**
+     * 여러 패턴의 기간 내 발생을 시간 순서로 하나씩 반환 (k-way 병합)
+     * 패턴마다 다음 발생일 하나만 우선순위 큐에 두므로 기간 길이와 무관하게 패턴 수만큼의 메모리만 사용
+     * @param matchers 컴파일된 반복 일정 매처 목록
+     * @param from 조회 시작일 (포함)
+     * @param to 조회 종료일 (포함)
+     * @return 발생 반복자 (날짜 오름차순, 같은 날짜 안에서는 패턴 ID 오름차순)
+     */
+    public static Iterator<Occurrence> merge(Collection<RecurrenceMatcher> matchers, LocalDate from, LocalDate to) {
+        return new MergingIterator(matchers, from.toEpochDay(), to.toEpochDay());
+    }
+
+    private static final class MergingIterator implements Iterator<Occurrence> {
+
+        private final PriorityQueue<Cursor> queue;
+        private final long last;
+
+        private MergingIterator(Collection<RecurrenceMatcher> matchers, long first, long last) {
+            this.queue = new PriorityQueue<>(Math.max(matchers.size(), 1), Cursor.ORDER);
+            this.last = last;
+
+            for (RecurrenceMatcher matcher : matchers) {
+                offer(new Cursor(matcher), first);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !queue.isEmpty();
+        }
+
+        @Override
+        public Occurrence next() {
+            Cursor cursor = queue.poll();
+            if (cursor == null) {
+                throw new NoSuchElementException();
+            }
+
+            Occurrence occurrence = new Occurrence(LocalDate.ofEpochDay(cursor.epochDay), cursor.matcher.getPatternId());
+            offer(cursor, cursor.epochDay + 1);
+            return occurrence;
+        }
+
+        /**
+         * 패턴의 다음 발생일로 이동 후 기간 안이면 큐에 다시 추가
+         */
+        private void offer(Cursor cursor, long fromEpochDay) {
+            cursor.epochDay = cursor.matcher.nextOccurrence(fromEpochDay);
+            if (cursor.epochDay <= last) {
+                queue.add(cursor);
+            }
+        }
+    }
+
+    /**
+     * 패턴별 다음 발생일
+     */
+    private static final class Cursor {
+
+        private static final Comparator<Cursor> ORDER = Comparator
+                .comparingLong((Cursor cursor) -> cursor.epochDay)
+                .thenComparingLong(cursor -> cursor.matcher.getPatternId());
+
+        private final RecurrenceMatcher matcher;
+        private long epochDay;
+
+        private Cursor(RecurrenceMatcher matcher) {
+            this.matcher = matcher;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.project.daycheck.service.recurrence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.daycheck.entity.RecurringSchedule;
+import com.project.daycheck.service.calendar.MemberDataVersion;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 회원별 반복 일정 날짜 역색인
+ * 패턴을 요일, 매월 n일, (n번째 주, 요일), 매년 (월, 일) 버킷으로 나누어 두고
+ * 날짜 조회 시 해당 날짜의 버킷에 있는 패턴만 확인 (활성 패턴 전체를 읽어 검사하지 않음)
+ * 색인마다 만들 때의 회원 데이터 버전(MemberDataVersion)을 기록하고, 조회 시 버전이 다르면 다시 만듦
+ * (어느 인스턴스의 쓰기든 ETag 와 같은 시점에 반영되며, expire-after-write 는 쓰지 않는 색인 정리용)
+ */
+@Component
+public class RecurrenceIndex {
+
+    private static final String CACHE_NAME = "recurrenceIndex";
+
+    private final RecurrenceMatcherCache recurrenceMatcherCache;
+    private final MemberDataVersion memberDataVersion;
+    private final Cache<Long, MemberIndex> indexes;
+    private final boolean enabled;
+
+    public RecurrenceIndex(
+            RecurrenceMatcherCache recurrenceMatcherCache,
+            MemberDataVersion memberDataVersion,
+            MeterRegistry meterRegistry,
+            @Value("${spring.schedule.recurrence-index.enabled:false}") boolean enabled,
+            @Value("${spring.schedule.recurrence-index.maximum-size:10000}") long maximumSize,
+            @Value("${spring.schedule.recurrence-index.expire-after-write-minutes:5}") long expireAfterWriteMinutes) {
+        this.recurrenceMatcherCache = recurrenceMatcherCache;
+        this.memberDataVersion = memberDataVersion;
+        this.enabled = enabled;
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(expireAfterWriteMinutes))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, indexes, CACHE_NAME);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 날짜에 발생하는 회원의 반복 일정 ID 목록 (오름차순)
+     * 버전을 먼저 읽고 패턴을 읽으므로, 그 사이 커밋된 쓰기는 다음 조회에서 다시 만들 때 반영됨
+     * @param patternsLoader 회원의 모든 반복 일정 조회 (색인이 없거나 버전이 다를 때만 호출)
+     */
+    public List<Long> findPatternIds(Long memberId, LocalDate date, Supplier<List<RecurringSchedule>> patternsLoader) {
+        long version = memberDataVersion.version(memberId);
+        MemberIndex index = indexes.asMap().compute(memberId, (id, existing) ->
+                existing != null && existing.version() == version
+                        ? existing
+                        : MemberIndex.of(version, recurrenceMatcherCache.getAll(patternsLoader.get())));
+        return index.find(date);
+    }
+
+    /**
+     * 버킷 키별 매처 목록 (패턴 ID 오름차순, 생성 후 변경 없음)
+     * @param version 만들 때의 회원 데이터 버전
+     */
+    private record MemberIndex(long version, Map<Integer, List<RecurrenceMatcher>> buckets) {
+
+        private static MemberIndex of(long version, Map<Long, RecurrenceMatcher> matchers) {
+            Map<Integer, List<RecurrenceMatcher>> buckets = new HashMap<>();
+            matchers.values().stream()
+                    .sorted((a, b) -> Long.compare(a.getPatternId(), b.getPatternId()))
+                    .forEach(matcher -> {
+                        for (int key : matcher.bucketKeys()) {
+                            buckets.computeIfAbsent(key, k -> new ArrayList<>()).add(matcher);
+                        }
+                    });
+            buckets.replaceAll((key, bucket) -> List.copyOf(bucket));
+            return new MemberIndex(version, buckets);
+        }
+
+        private List<Long> find(LocalDate date) {
+            List<Long> patternIds = new ArrayList<>();
+            for (int key : RecurrenceMatcher.bucketKeys(date)) {
+                for (RecurrenceMatcher matcher : buckets.getOrDefault(key, List.of())) {
+                    if (matcher.matches(date)) {
+                        patternIds.add(matcher.getPatternId());
+                    }
+                }
+            }
+            patternIds.sort(null);
+            return patternIds;
+        }
+    }
+}
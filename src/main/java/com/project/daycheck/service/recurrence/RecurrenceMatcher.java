@@ -0,0 +1,383 @@
+package com.project.daycheck.service.recurrence;
+
+import com.project.daycheck.entity.DayOfWeekMask;
+import com.project.daycheck.entity.RecurringSchedule;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Year;
+
+/**
+ * 컴파일된 반복 일정 매처
+ * 패턴 정보를 epoch-day 기준 정수 값으로 미리 계산해 두고, 날짜 검사 시에는 정수 연산만 수행
+ * 불변 객체이므로 여러 요청에서 공유 가능
+ */
+public final class RecurrenceMatcher {
+
+    /** 다음 발생일이 없음을 나타내는 값 */
+    public static final long NONE = Long.MAX_VALUE;
+
+    private static final int NEVER = 0;
+    private static final int DAILY = 1;
+    private static final int WEEKLY = 2;
+    private static final int MONTHLY_BY_DAY = 3;
+    private static final int MONTHLY_BY_WEEK = 4;
+    private static final int YEARLY = 5;
+
+    // 해당 일이 없는 달/해가 반복되는 패턴이 무한 루프에 빠지지 않도록 400년(그레고리력 주기)까지만 탐색
+    private static final int MAX_MONTH_STEPS = 400 * 12;
+    private static final int MAX_YEAR_STEPS = 400;
+
+    // 날짜 역색인 버킷 키 시작 값 (DAILY 0, 요일 1~7, 매월 n일 8~38, n번째 주 요일 39~73, 매년 월/일 74~445)
+    private static final int DAILY_BUCKET = 0;
+    private static final int WEEKDAY_BUCKET = 1;
+    private static final int DAY_OF_MONTH_BUCKET = WEEKDAY_BUCKET + 7;
+    private static final int WEEK_OF_MONTH_BUCKET = DAY_OF_MONTH_BUCKET + 31;
+    private static final int MONTH_DAY_BUCKET = WEEK_OF_MONTH_BUCKET + 5 * 7;
+
+    @Getter
+    private final Long patternId;
+
+    @Getter
+    private final LocalDateTime version; // 컴파일 당시 패턴의 updateAt
+
+    private final int type;
+    private final int interval;
+
+    private final long anchorEpochDay;   // 패턴 시작일
+    private final long firstEpochDay;    // 처음 활성화되는 날 (findActiveOnDate 기준)
+    private final long lastEpochDay;     // 종료일 (없으면 Long.MAX_VALUE)
+
+    private final long anchorWeek;       // 시작일이 속한 주 (월요일 기준 epoch-week)
+    private final int dayMask;           // 요일 비트마스크 (bit0 = 월요일 ... bit6 = 일요일)
+
+    private final long anchorMonth;      // 시작일이 속한 달 (year * 12 + month - 1)
+    private final int dayOfMonth;        // MONTHLY: 매월 n일
+    private final int weekOfMonth;       // MONTHLY: 매월 n번째 주
+    private final int monthlyDayOfWeek;  // MONTHLY: n번째 주의 요일 (0 = 월요일)
+
+    private final int anchorYear;
+    private final int anchorMonthOfYear;
+    private final int anchorDayOfMonth;
+
+    private RecurrenceMatcher(RecurringSchedule pattern) {
+        LocalDate anchor = pattern.getStartDate().toLocalDate();
+
+        this.patternId = pattern.getId();
+        this.version = pattern.getUpdateAt();
+
+        this.anchorEpochDay = anchor.toEpochDay();
+        this.firstEpochDay = firstActiveDate(pattern).toEpochDay();
+        this.lastEpochDay = pattern.getEndDate() != null ? pattern.getEndDate().toLocalDate().toEpochDay() : Long.MAX_VALUE;
+
+        this.anchorWeek = weekOf(anchorEpochDay);
+        this.anchorMonth = anchor.getYear() * 12L + anchor.getMonthValue() - 1;
+        this.anchorYear = anchor.getYear();
+        this.anchorMonthOfYear = anchor.getMonthValue();
+        this.anchorDayOfMonth = anchor.getDayOfMonth();
+
+        int mask = pattern.getDaysMask(); // DayOfWeekMask 와 같은 비트 배치
+
+        int dom = 0;
+        int wom = 0;
+        int monthlyDow = 0;
+        int resolvedInterval = pattern.getInterval() != null && pattern.getInterval() > 0 ? pattern.getInterval() : 1;
+        int resolvedType;
+
+        switch (pattern.getPatternType()) {
+            case "DAILY":
+                resolvedType = DAILY;
+                break;
+
+            case "WEEKLY":
+                // 요일이 없으면 시작일과 같은 요일만 해당
+                if (mask == 0) {
+                    mask = 1 << (anchor.getDayOfWeek().getValue() - 1);
+                }
+                resolvedType = WEEKLY;
+                break;
+
+            case "MONTHLY":
+                if (pattern.getDayOfMonth() != null) {
+                    dom = pattern.getDayOfMonth();
+                    resolvedType = dom >= 1 && dom <= 31 ? MONTHLY_BY_DAY : NEVER;
+                } else if (pattern.getWeekOfMonth() != null && mask != DayOfWeekMask.EMPTY) {
+                    // 패턴 요일 중 가장 앞선 요일 사용 (예: "매월 n번째 월요일")
+                    wom = pattern.getWeekOfMonth();
+                    monthlyDow = DayOfWeekMask.first(mask).getValue() - 1;
+                    resolvedType = wom >= 1 && wom <= 5 ? MONTHLY_BY_WEEK : NEVER;
+                } else {
+                    resolvedType = NEVER;
+                }
+                break;
+
+            case "YEARLY":
+                resolvedType = YEARLY;
+                break;
+
+            case "CUSTOM":
+                // 간격 없이 지정된 요일마다 반복
+                resolvedInterval = 1;
+                resolvedType = mask != 0 ? WEEKLY : NEVER;
+                break;
+
+            default:
+                resolvedType = NEVER;
+                break;
+        }
+
+        this.type = resolvedType;
+        this.interval = resolvedInterval;
+        this.dayMask = mask;
+        this.dayOfMonth = dom;
+        this.weekOfMonth = wom;
+        this.monthlyDayOfWeek = monthlyDow;
+    }
+
+    /**
+     * 패턴의 요일 비트마스크(days_mask)로 매처 생성 (요일 조회 없음)
+     */
+    public static RecurrenceMatcher compile(RecurringSchedule pattern) {
+        return new RecurrenceMatcher(pattern);
+    }
+
+    /**
+     * 패턴이 처음 활성화되는 날짜
+     * findActiveOnDate 와 같은 기준 (startDate <= 해당 날짜 00:00)
+     */
+    public static LocalDate firstActiveDate(RecurringSchedule pattern) {
+        LocalDate startDate = pattern.getStartDate().toLocalDate();
+        return pattern.getStartDate().toLocalTime().equals(LocalTime.MIDNIGHT) ? startDate : startDate.plusDays(1);
+    }
+
+    /**
+     * 날짜가 패턴과 일치하는지 확인
+     */
+    public boolean matches(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        if (epochDay < firstEpochDay || epochDay > lastEpochDay) {
+            return false;
+        }
+
+        switch (type) {
+            case DAILY:
+                return (epochDay - anchorEpochDay) % interval == 0;
+
+            case WEEKLY:
+                return (dayMask & (1 << dayOfWeekOf(epochDay))) != 0
+                        && (weekOf(epochDay) - anchorWeek) % interval == 0;
+
+            case MONTHLY_BY_DAY:
+                return date.getDayOfMonth() == dayOfMonth
+                        && (monthOf(date) - anchorMonth) % interval == 0;
+
+            case MONTHLY_BY_WEEK:
+                return (date.getDayOfMonth() - 1) / 7 + 1 == weekOfMonth
+                        && dayOfWeekOf(epochDay) == monthlyDayOfWeek
+                        && (monthOf(date) - anchorMonth) % interval == 0;
+
+            case YEARLY:
+                return date.getMonthValue() == anchorMonthOfYear
+                        && date.getDayOfMonth() == anchorDayOfMonth
+                        && (date.getYear() - anchorYear) % interval == 0;
+
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 패턴이 발생할 수 있는 날짜 버킷 키 (간격, 기간을 제외하고 날짜만으로 정해지는 조건)
+     * 같은 키를 가진 날짜에서만 발생하므로 후보를 고른 뒤 matches 로 다시 확인
+     */
+    int[] bucketKeys() {
+        switch (type) {
+            case DAILY:
+                return new int[]{DAILY_BUCKET};
+
+            case WEEKLY:
+                int[] keys = new int[Integer.bitCount(dayMask)];
+                int index = 0;
+                for (int dow = 0; dow < 7; dow++) {
+                    if ((dayMask & (1 << dow)) != 0) {
+                        keys[index++] = WEEKDAY_BUCKET + dow;
+                    }
+                }
+                return keys;
+
+            case MONTHLY_BY_DAY:
+                return new int[]{DAY_OF_MONTH_BUCKET + dayOfMonth - 1};
+
+            case MONTHLY_BY_WEEK:
+                return new int[]{WEEK_OF_MONTH_BUCKET + (weekOfMonth - 1) * 7 + monthlyDayOfWeek};
+
+            case YEARLY:
+                return new int[]{MONTH_DAY_BUCKET + (anchorMonthOfYear - 1) * 31 + anchorDayOfMonth - 1};
+
+            default:
+                return new int[0];
+        }
+    }
+
+    /**
+     * 날짜가 속한 버킷 키 (유형마다 하나씩)
+     */
+    static int[] bucketKeys(LocalDate date) {
+        int dow = dayOfWeekOf(date.toEpochDay());
+        int dayOfMonth = date.getDayOfMonth();
+        return new int[]{
+                DAILY_BUCKET,
+                WEEKDAY_BUCKET + dow,
+                DAY_OF_MONTH_BUCKET + dayOfMonth - 1,
+                WEEK_OF_MONTH_BUCKET + (dayOfMonth - 1) / 7 * 7 + dow,
+                MONTH_DAY_BUCKET + (date.getMonthValue() - 1) * 31 + dayOfMonth - 1
+        };
+    }
+
+    /**
+     * epochDay 이후(포함) 첫 발생일
+     * @return 발생일의 epoch-day, 없으면 {@link #NONE}
+     */
+    public long nextOccurrence(long epochDay) {
+        long from = Math.max(epochDay, firstEpochDay);
+        if (from > lastEpochDay) {
+            return NONE;
+        }
+
+        long next;
+        switch (type) {
+            case DAILY:
+                next = nextDaily(from);
+                break;
+            case WEEKLY:
+                next = nextWeekly(from);
+                break;
+            case MONTHLY_BY_DAY:
+            case MONTHLY_BY_WEEK:
+                next = nextMonthly(from);
+                break;
+            case YEARLY:
+                next = nextYearly(from);
+                break;
+            default:
+                next = NONE;
+                break;
+        }
+
+        return next <= lastEpochDay ? next : NONE;
+    }
+
+    private long nextDaily(long from) {
+        long remainder = Math.floorMod(from - anchorEpochDay, interval);
+        return remainder == 0 ? from : from + interval - remainder;
+    }
+
+    private long nextWeekly(long from) {
+        long week = weekOf(from);
+        long remainder = Math.floorMod(week - anchorWeek, interval);
+
+        if (remainder == 0) {
+            // 이번 주의 남은 요일 중 첫 번째
+            int rest = dayMask >>> dayOfWeekOf(from) << dayOfWeekOf(from);
+            if (rest != 0) {
+                return mondayOf(week) + Integer.numberOfTrailingZeros(rest);
+            }
+            week += interval;
+        } else {
+            week += interval - remainder;
+        }
+
+        return mondayOf(week) + Integer.numberOfTrailingZeros(dayMask);
+    }
+
+    private long nextMonthly(long from) {
+        LocalDate fromDate = LocalDate.ofEpochDay(from);
+        long month = monthOf(fromDate);
+        long remainder = Math.floorMod(month - anchorMonth, interval);
+        if (remainder != 0) {
+            month += interval - remainder;
+        }
+
+        for (int step = 0; step < MAX_MONTH_STEPS; step++, month += interval) {
+            LocalDate firstOfMonth = LocalDate.of((int) Math.floorDiv(month, 12), (int) Math.floorMod(month, 12) + 1, 1);
+            if (firstOfMonth.toEpochDay() > lastEpochDay) {
+                return NONE;
+            }
+
+            int day = dayInMonth(firstOfMonth);
+            if (day == 0) {
+                continue; // 해당 일이 없는 달(ex. 2월 30일)은 건너뜀
+            }
+
+            long candidate = firstOfMonth.toEpochDay() + day - 1;
+            if (candidate >= from) {
+                return candidate;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * 해당 달에서 패턴이 발생하는 날 (없으면 0)
+     */
+    private int dayInMonth(LocalDate firstOfMonth) {
+        int length = firstOfMonth.lengthOfMonth();
+
+        if (type == MONTHLY_BY_DAY) {
+            return dayOfMonth <= length ? dayOfMonth : 0;
+        }
+
+        int firstDayOfWeek = (weekOfMonth - 1) * 7 + 1; // n번째 주의 첫 날
+        int offset = Math.floorMod(monthlyDayOfWeek - dayOfWeekOf(firstOfMonth.toEpochDay() + firstDayOfWeek - 1), 7);
+        int day = firstDayOfWeek + offset;
+        return day <= length ? day : 0;
+    }
+
+    private long nextYearly(long from) {
+        int year = LocalDate.ofEpochDay(from).getYear();
+        int remainder = Math.floorMod(year - anchorYear, interval);
+        if (remainder != 0) {
+            year += interval - remainder;
+        }
+
+        for (int step = 0; step < MAX_YEAR_STEPS; step++, year += interval) {
+            // 2월 29일 시작 패턴은 윤년에만 해당
+            if (anchorMonthOfYear == 2 && anchorDayOfMonth == 29 && !Year.isLeap(year)) {
+                continue;
+            }
+
+            long candidate = LocalDate.of(year, anchorMonthOfYear, anchorDayOfMonth).toEpochDay();
+            if (candidate > lastEpochDay) {
+                return NONE;
+            }
+            if (candidate >= from) {
+                return candidate;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * 월요일 기준 epoch-week (1970-01-01 은 목요일)
+     */
+    private static long weekOf(long epochDay) {
+        return Math.floorDiv(epochDay + 3, 7);
+    }
+
+    private static long mondayOf(long week) {
+        return week * 7 - 3;
+    }
+
+    /**
+     * 요일 (0 = 월요일 ... 6 = 일요일)
+     */
+    private static int dayOfWeekOf(long epochDay) {
+        return (int) Math.floorMod(epochDay + 3, 7);
+    }
+
+    private static long monthOf(LocalDate date) {
+        return date.getYear() * 12L + date.getMonthValue() - 1;
+    }
+}
@@ -0,0 +1,85 @@
+package com.project.daycheck.service.recurrence;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.daycheck.entity.RecurringSchedule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 반복 일정 매처 캐시
+ * 패턴 ID 별로 컴파일된 매처를 보관하고, 패턴의 updateAt 이 바뀌면 다시 컴파일
+ * 요일은 패턴의 days_mask 에 있으므로 컴파일에 추가 조회가 없음
+ * 수정/삭제 시에는 invalidate 로 명시적으로 제거
+ * 다른 인스턴스에서 삭제된 패턴의 매처는 maximum-size 를 넘으면 자주 쓰지 않는 순으로 정리
+ */
+@Component
+public class RecurrenceMatcherCache {
+
+    private static final String CACHE_NAME = "recurrenceMatcher";
+
+    private final Cache<Long, RecurrenceMatcher> matchers;
+
+    public RecurrenceMatcherCache(
+            MeterRegistry meterRegistry,
+            @Value("${spring.schedule.recurrence-matcher.maximum-size:100000}") long maximumSize) {
+        this.matchers = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, matchers, CACHE_NAME);
+    }
+
+    /**
+     * 패턴의 매처 조회 (없거나 버전이 다르면 컴파일)
+     */
+    public RecurrenceMatcher get(RecurringSchedule pattern) {
+        RecurrenceMatcher cached = matchers.getIfPresent(pattern.getId());
+        if (cached != null && Objects.equals(cached.getVersion(), pattern.getUpdateAt())) {
+            return cached;
+        }
+
+        RecurrenceMatcher compiled = RecurrenceMatcher.compile(pattern);
+        matchers.put(pattern.getId(), compiled);
+        return compiled;
+    }
+
+    /**
+     * 여러 패턴의 매처 조회
+     * @return 패턴 ID 별 매처
+     */
+    public Map<Long, RecurrenceMatcher> getAll(List<RecurringSchedule> patterns) {
+        Map<Long, RecurrenceMatcher> result = new HashMap<>();
+        for (RecurringSchedule pattern : patterns) {
+            result.put(pattern.getId(), get(pattern));
+        }
+        return result;
+    }
+
+    /**
+     * 패턴 매처 제거
+     * 커밋 전에 다른 요청이 이전 데이터로 다시 컴파일할 수 있으므로 커밋 후에 한 번 더 제거
+     */
+    public void invalidate(Long patternId) {
+        matchers.invalidate(patternId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    matchers.invalidate(patternId);
+                }
+            });
+        }
+    }
+}
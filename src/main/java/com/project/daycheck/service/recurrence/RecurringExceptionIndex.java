@@ -0,0 +1,61 @@
+package com.project.daycheck.service.recurrence;
+
+import com.project.daycheck.entity.RecurringException;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 반복 일정 예외 인덱스
+ * 한 번에 조회한 예외 목록을 (패턴 ID, 날짜) 기준으로 찾을 수 있도록 정리
+ */
+public final class RecurringExceptionIndex {
+
+    private static final RecurringExceptionIndex EMPTY = new RecurringExceptionIndex(Collections.emptyMap());
+
+    private final Map<Long, Map<LocalDate, RecurringException>> exceptions;
+
+    private RecurringExceptionIndex(Map<Long, Map<LocalDate, RecurringException>> exceptions) {
+        this.exceptions = exceptions;
+    }
+
+    /**
+     * 예외 목록으로 인덱스 생성
+     * 같은 패턴, 같은 날짜의 예외가 여러 개면 먼저 조회된 것을 사용
+     */
+    public static RecurringExceptionIndex of(List<RecurringException> exceptionList) {
+        if (exceptionList.isEmpty()) {
+            return EMPTY;
+        }
+
+        Map<Long, Map<LocalDate, RecurringException>> exceptions = new HashMap<>();
+        for (RecurringException exception : exceptionList) {
+            exceptions
+                    .computeIfAbsent(exception.getRecurringScheduleId(), id -> new HashMap<>())
+                    .putIfAbsent(exception.getExceptionDate(), exception);
+        }
+        return new RecurringExceptionIndex(exceptions);
+    }
+
+    public static RecurringExceptionIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 특정 패턴, 특정 날짜의 예외 조회 (없으면 null)
+     */
+    public RecurringException get(Long patternId, LocalDate date) {
+        Map<LocalDate, RecurringException> byDate = exceptions.get(patternId);
+        return byDate != null ? byDate.get(date) : null;
+    }
+
+    /**
+     * 건너뛰기 예외 여부
+     */
+    public static boolean isSkip(RecurringException exception) {
+        return exception != null && "SKIP".equals(exception.getExceptionType());
+    }
+}
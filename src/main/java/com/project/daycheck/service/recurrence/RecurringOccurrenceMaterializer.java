@@ -0,0 +1,271 @@
+package com.project.daycheck.service.recurrence;
+
+import com.project.daycheck.entity.RecurringException;
+import com.project.daycheck.entity.RecurringOccurrence;
+import com.project.daycheck.entity.RecurringSchedule;
+import com.project.daycheck.repository.RecurringExceptionRepository;
+import com.project.daycheck.repository.RecurringOccurrenceRepository;
+import com.project.daycheck.repository.RecurringScheduleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * 반복 일정 발생일 테이블(recurring_occurrence) 관리
+ * 오늘부터 horizon-days 동안의 발생일을 저장해 두고, 패턴 생성/수정/삭제 시 해당 패턴의 발생일만 다시 저장
+ * 매일 스케줄러가 지난 발생일을 지우고 새로 기간에 들어온 날짜만큼 이어서 저장
+ * 기간 연장은 recurring_occurrence_state 잠금을 얻은 인스턴스 하나만 실행하고, 패턴 수정과는 패턴 행 잠금으로 순서를 맞춤
+ * (일괄 갱신 페이지는 공유 잠금, 패턴별 재생성은 배타 잠금을 먼저 잡으므로 이전 패턴으로 만든 발생일이 나중에 덮어쓰지 않음)
+ * 조회는 이 인스턴스가 확인한 기간(오늘 ~ materializedUntil) 안에서만 테이블을 사용하고, 그 밖은 기존처럼 메모리에서 전개
+ * 관리가 멈추면 테이블이 어긋나므로 설정은 모든 인스턴스에서 같게 유지
+ */
+@Slf4j
+@Component
+public class RecurringOccurrenceMaterializer {
+
+    private static final int PAGE_SIZE = 500;
+
+    // 잠금 충돌(교착 상태 등)로 롤백된 페이지를 다시 시도하는 최대 횟수
+    private static final int MAX_PAGE_ATTEMPTS = 3;
+
+    // 잠금 시각은 인스턴스 간 시계 차이가 없도록 DB 시각 기준
+    private static final String ACQUIRE_LOCK_SQL = "UPDATE recurring_occurrence_state "
+            + "SET locked_by = ?, locked_until = TIMESTAMPADD(MINUTE, ?, CURRENT_TIMESTAMP(6)) "
+            + "WHERE id = 1 AND (locked_until IS NULL OR locked_until < CURRENT_TIMESTAMP(6))";
+
+    private static final String RENEW_LOCK_SQL = "UPDATE recurring_occurrence_state "
+            + "SET locked_until = TIMESTAMPADD(MINUTE, ?, CURRENT_TIMESTAMP(6)) WHERE id = 1 AND locked_by = ?";
+
+    private static final String COMPLETE_SQL = "UPDATE recurring_occurrence_state "
+            + "SET materialized_until = ?, locked_by = NULL, locked_until = NULL WHERE id = 1 AND locked_by = ?";
+
+    private static final String RELEASE_LOCK_SQL = "UPDATE recurring_occurrence_state "
+            + "SET locked_by = NULL, locked_until = NULL WHERE id = 1 AND locked_by = ?";
+
+    private static final String SELECT_MATERIALIZED_UNTIL_SQL =
+            "SELECT materialized_until FROM recurring_occurrence_state WHERE id = 1";
+
+    private final RecurringOccurrenceRepository recurringOccurrenceRepository;
+    private final RecurringScheduleRepository recurringScheduleRepository;
+    private final RecurringExceptionRepository recurringExceptionRepository;
+    private final RecurrenceMatcherCache recurrenceMatcherCache;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int horizonDays;
+    private final int lockLeaseMinutes;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // 이 인스턴스가 발생일을 채워 둔 마지막 날짜 (아직 채우지 않았으면 null)
+    private volatile LocalDate materializedUntil;
+
+    public RecurringOccurrenceMaterializer(
+            RecurringOccurrenceRepository recurringOccurrenceRepository,
+            RecurringScheduleRepository recurringScheduleRepository,
+            RecurringExceptionRepository recurringExceptionRepository,
+            RecurrenceMatcherCache recurrenceMatcherCache,
+            PlatformTransactionManager transactionManager,
+            JdbcTemplate jdbcTemplate,
+            @Value("${spring.schedule.recurring-occurrence.enabled:false}") boolean enabled,
+            @Value("${spring.schedule.recurring-occurrence.horizon-days:90}") int horizonDays,
+            @Value("${spring.schedule.recurring-occurrence.lock-lease-minutes:30}") int lockLeaseMinutes) {
+        this.recurringOccurrenceRepository = recurringOccurrenceRepository;
+        this.recurringScheduleRepository = recurringScheduleRepository;
+        this.recurringExceptionRepository = recurringExceptionRepository;
+        this.recurrenceMatcherCache = recurrenceMatcherCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.horizonDays = horizonDays;
+        this.lockLeaseMinutes = lockLeaseMinutes;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 기간 전체가 발생일 테이블로 조회 가능한지 확인
+     */
+    public boolean covers(LocalDate startDate, LocalDate endDate) {
+        LocalDate until = materializedUntil;
+        return enabled && until != null
+                && !startDate.isBefore(LocalDate.now())
+                && !endDate.isAfter(until);
+    }
+
+    /**
+     * 패턴의 발생일 다시 저장 (반복 일정 생성/수정, 예외 변경 시 호출하는 쪽 트랜잭션 안에서)
+     * 패턴 행을 먼저 배타 잠금하므로, 이 패턴을 읽은 일괄 갱신 페이지가 있으면 그 페이지가 커밋된 뒤에 덮어씀
+     */
+    public void refresh(RecurringSchedule pattern) {
+        if (!enabled) {
+            return;
+        }
+        recurringScheduleRepository.findByIdForUpdate(pattern.getId());
+        LocalDate today = LocalDate.now();
+        replace(List.of(pattern), today, horizonEnd(today));
+    }
+
+    /**
+     * 패턴의 발생일 전체 삭제 (반복 일정 삭제 시)
+     */
+    public void remove(Long recurringScheduleId) {
+        if (!enabled) {
+            return;
+        }
+        recurringOccurrenceRepository.deleteByRecurringScheduleId(recurringScheduleId);
+    }
+
+    /**
+     * 시작 시 발생일 저장 (실패해도 기동은 계속하고, 채운 기간이 없으므로 조회는 메모리 전개를 사용)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void materializeOnStartup() {
+        extendQuietly();
+    }
+
+    @Scheduled(cron = "${spring.schedule.recurring-occurrence.extend-cron:0 10 0 * * *}")
+    public void scheduledExtend() {
+        extendQuietly();
+    }
+
+    private void extendQuietly() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            extend(LocalDate.now());
+        } catch (RuntimeException e) {
+            log.error("반복 일정 발생일 저장 실패 (다음 주기에 다시 시도, 그동안 조회는 메모리 전개 사용)", e);
+        }
+    }
+
+    /**
+     * 지난 발생일을 지우고 오늘 기준 horizon 끝까지 발생일을 이어서 저장
+     * 잠금을 얻은 인스턴스 하나만 실행하고, 얻지 못하면 다른 인스턴스가 마지막으로 채운 기간만 가져옴
+     * 이미 채운 기간(materialized_until)은 건너뛰고, 처음이면 오늘부터 전체를 다시 저장 (패턴 ID 순으로 나누어 트랜잭션 처리)
+     */
+    public void extend(LocalDate today) {
+        if (jdbcTemplate.update(ACQUIRE_LOCK_SQL, instanceId, lockLeaseMinutes) == 0) {
+            LocalDate until = loadMaterializedUntil();
+            if (until != null && !until.isBefore(today)) {
+                materializedUntil = until;
+            }
+            log.info("다른 인스턴스가 반복 일정 발생일 저장 중이므로 건너뜀 (저장된 기간: ~ {})", until);
+            return;
+        }
+
+        try {
+            LocalDate horizonEnd = horizonEnd(today);
+            LocalDate until = loadMaterializedUntil();
+            LocalDate from = until != null && !until.isBefore(today) ? until.plusDays(1) : today;
+
+            transactionTemplate.executeWithoutResult(status -> recurringOccurrenceRepository.deleteByDateBefore(today));
+
+            int patternCount = 0;
+            long lastId = 0L;
+            while (!from.isAfter(horizonEnd)) {
+                List<RecurringSchedule> patterns = replacePage(lastId, from, horizonEnd);
+                if (patterns.isEmpty()) {
+                    break;
+                }
+                patternCount += patterns.size();
+                lastId = patterns.get(patterns.size() - 1).getId();
+                renewLock();
+            }
+
+            if (jdbcTemplate.update(COMPLETE_SQL, Date.valueOf(horizonEnd), instanceId) == 0) {
+                throw new IllegalStateException("반복 일정 발생일 저장 잠금이 만료되었습니다.");
+            }
+            materializedUntil = horizonEnd;
+            log.info("반복 일정 발생일 저장: {} ~ {}, 패턴 {}개", from, horizonEnd, patternCount);
+        } finally {
+            jdbcTemplate.update(RELEASE_LOCK_SQL, instanceId);
+        }
+    }
+
+    /**
+     * 패턴 한 페이지의 발생일을 한 트랜잭션에서 다시 저장 (패턴 행은 공유 잠금)
+     * 잠금 충돌로 롤백되면 반영된 것이 없으므로 다시 시도
+     */
+    private List<RecurringSchedule> replacePage(long afterId, LocalDate from, LocalDate to) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    List<RecurringSchedule> page = recurringScheduleRepository.findActiveInRangeAfterId(
+                            afterId, from.atStartOfDay(), to.atStartOfDay(), PageRequest.of(0, PAGE_SIZE));
+                    if (!page.isEmpty()) {
+                        replace(page, from, to);
+                    }
+                    return page;
+                });
+            } catch (ConcurrencyFailureException e) {
+                if (attempt >= MAX_PAGE_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("반복 일정 발생일 페이지 저장 충돌, 다시 시도 ({}/{}): {}", attempt, MAX_PAGE_ATTEMPTS, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 잠금 기간 연장 (다른 인스턴스가 잠금을 가져갔으면 중단)
+     */
+    private void renewLock() {
+        if (jdbcTemplate.update(RENEW_LOCK_SQL, lockLeaseMinutes, instanceId) == 0) {
+            throw new IllegalStateException("반복 일정 발생일 저장 잠금이 만료되었습니다.");
+        }
+    }
+
+    private LocalDate loadMaterializedUntil() {
+        List<LocalDate> result = jdbcTemplate.queryForList(SELECT_MATERIALIZED_UNTIL_SQL, LocalDate.class);
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    /**
+     * 패턴들의 기간 내 발생일을 지우고 다시 저장 (건너뛰기 예외 제외)
+     */
+    private void replace(List<RecurringSchedule> patterns, LocalDate from, LocalDate to) {
+        List<Long> patternIds = patterns.stream()
+                .map(RecurringSchedule::getId)
+                .collect(Collectors.toList());
+
+        Map<Long, RecurrenceMatcher> matchers = recurrenceMatcherCache.getAll(patterns);
+        RecurringExceptionIndex exceptionIndex = RecurringExceptionIndex.of(
+                recurringExceptionRepository.findByRecurringScheduleIdInAndExceptionDateBetween(patternIds, from, to));
+
+        List<RecurringOccurrence> occurrences = new ArrayList<>();
+        for (RecurringSchedule pattern : patterns) {
+            for (LocalDate date : RecurrenceExpander.expand(matchers.get(pattern.getId()), from, to)) {
+                RecurringException exception = exceptionIndex.get(pattern.getId(), date);
+                if (!RecurringExceptionIndex.isSkip(exception)) {
+                    occurrences.add(new RecurringOccurrence(pattern.getMemberId(), date, pattern.getId()));
+                }
+            }
+        }
+
+        recurringOccurrenceRepository.deleteByRecurringScheduleIdsAndDateBetween(patternIds, from, to);
+        recurringOccurrenceRepository.saveAll(occurrences);
+    }
+
+    private LocalDate horizonEnd(LocalDate today) {
+        return today.plusDays(horizonDays - 1L);
+    }
+}
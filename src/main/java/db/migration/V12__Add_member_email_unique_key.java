@@ -0,0 +1,67 @@
+package db.migration;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * member.email 유니크 인덱스 생성 (MemberRepository.findByEmail, 로그인 아이디)
+ * 전제 조건: 이메일이 중복된 회원이 없어야 함
+ * 회원은 일정/완료 이력이 참조하므로 자동으로 지우거나 합치지 않고, 중복이 있으면 이메일 목록과 함께 실패
+ * (중복 회원을 정리한 뒤 다시 배포하면 이 버전부터 다시 적용됨)
+ * 이전 V2 에서 이미 인덱스가 생성된 DB 는 건너뜀
+ */
+public class V12__Add_member_email_unique_key extends BaseJavaMigration {
+
+    private static final String INDEX_NAME = "uk_member_email";
+    private static final int MAX_REPORTED_EMAILS = 20;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        if (indexExists(connection)) {
+            return;
+        }
+
+        List<String> duplicateEmails = duplicateEmails(connection);
+        if (!duplicateEmails.isEmpty()) {
+            throw new FlywayException("member.email 에 중복 값이 있어 " + INDEX_NAME + " 를 만들 수 없습니다. "
+                    + "중복 회원을 정리한 뒤 다시 실행하세요: " + duplicateEmails);
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE UNIQUE INDEX " + INDEX_NAME + " ON member (email)");
+        }
+    }
+
+    private static boolean indexExists(Connection connection) throws Exception {
+        try (ResultSet indexInfo = connection.getMetaData().getIndexInfo(connection.getCatalog(), null, "member", true, false)) {
+            while (indexInfo.next()) {
+                String indexName = indexInfo.getString("INDEX_NAME");
+                if (indexName != null && indexName.toLowerCase(Locale.ROOT).equals(INDEX_NAME)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static List<String> duplicateEmails(Connection connection) throws Exception {
+        List<String> emails = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery(
+                     "SELECT email FROM member GROUP BY email HAVING COUNT(*) > 1 ORDER BY email LIMIT " + MAX_REPORTED_EMAILS)) {
+            while (rows.next()) {
+                emails.add(rows.getString("email"));
+            }
+        }
+        return emails;
+    }
+}
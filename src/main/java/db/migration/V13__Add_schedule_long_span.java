@@ -0,0 +1,67 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 날짜 버킷 없이 조회할 긴 일정 표시 (schedules.long_span)
+ * 걸쳐 있는 날짜 수가 MAX_SPAN_DAYS 일보다 많은 일정은 long_span 으로 표시하고 이미 만들어진 버킷 삭제
+ * (일정 하나가 날짜 수만큼 버킷 행을 만들지 않도록 제한, 긴 일정은 기간 겹침 조건으로 조회)
+ */
+public class V13__Add_schedule_long_span extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_SPAN_DAYS = 366;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE schedules ADD COLUMN long_span BOOLEAN DEFAULT FALSE NOT NULL");
+        }
+
+        try (Statement select = connection.createStatement();
+             ResultSet schedules = select.executeQuery(
+                     "SELECT id, start_date, end_date FROM schedules " +
+                     "WHERE start_date IS NOT NULL AND end_date IS NOT NULL");
+             PreparedStatement mark = connection.prepareStatement(
+                     "UPDATE schedules SET long_span = TRUE WHERE id = ?");
+             PreparedStatement deleteBuckets = connection.prepareStatement(
+                     "DELETE FROM schedule_day_bucket WHERE schedule_id = ?")) {
+
+            int pending = 0;
+            while (schedules.next()) {
+                LocalDate startDay = schedules.getTimestamp("start_date").toLocalDateTime().toLocalDate();
+                LocalDate endDay = schedules.getTimestamp("end_date").toLocalDateTime().toLocalDate();
+                if (ChronoUnit.DAYS.between(startDay, endDay) + 1 <= MAX_SPAN_DAYS) {
+                    continue;
+                }
+
+                long scheduleId = schedules.getLong("id");
+                mark.setLong(1, scheduleId);
+                mark.addBatch();
+                deleteBuckets.setLong(1, scheduleId);
+                deleteBuckets.addBatch();
+
+                if (++pending == BATCH_SIZE) {
+                    mark.executeBatch();
+                    deleteBuckets.executeBatch();
+                    pending = 0;
+                }
+            }
+
+            if (pending > 0) {
+                mark.executeBatch();
+                deleteBuckets.executeBatch();
+            }
+        }
+    }
+}
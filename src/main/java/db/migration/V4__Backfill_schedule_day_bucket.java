@@ -0,0 +1,63 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 기존 일반 일정의 날짜 버킷 생성
+ * 일정 시작일 ~ 종료일(포함)의 날짜마다 버킷 한 행 (DB 마다 다른 날짜 생성 SQL 대신 JDBC 로 처리)
+ * MAX_SPAN_DAYS 일보다 긴 일정은 버킷을 만들지 않음 (V13 에서 long_span 으로 표시)
+ */
+public class V4__Backfill_schedule_day_bucket extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_SPAN_DAYS = 366;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        try (Statement select = connection.createStatement();
+             ResultSet schedules = select.executeQuery(
+                     "SELECT id, member_id, start_date, end_date FROM schedules " +
+                     "WHERE start_date IS NOT NULL AND end_date IS NOT NULL");
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO schedule_day_bucket (member_id, day_key, schedule_id) VALUES (?, ?, ?)")) {
+
+            int pending = 0;
+            while (schedules.next()) {
+                long scheduleId = schedules.getLong("id");
+                long memberId = schedules.getLong("member_id");
+                LocalDate startDay = schedules.getTimestamp("start_date").toLocalDateTime().toLocalDate();
+                LocalDate endDay = schedules.getTimestamp("end_date").toLocalDateTime().toLocalDate();
+                if (ChronoUnit.DAYS.between(startDay, endDay) + 1 > MAX_SPAN_DAYS) {
+                    continue;
+                }
+
+                for (LocalDate day = startDay; !day.isAfter(endDay); day = day.plusDays(1)) {
+                    insert.setLong(1, memberId);
+                    insert.setDate(2, Date.valueOf(day));
+                    insert.setLong(3, scheduleId);
+                    insert.addBatch();
+
+                    if (++pending == BATCH_SIZE) {
+                        insert.executeBatch();
+                        pending = 0;
+                    }
+                }
+            }
+
+            if (pending > 0) {
+                insert.executeBatch();
+            }
+        }
+    }
+}
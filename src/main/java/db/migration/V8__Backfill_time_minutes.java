@@ -0,0 +1,82 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Types;
+
+/**
+ * 기존 반복 일정/예외의 시간 문자열("HH:mm")을 하루 중 분으로 변환
+ * 형식이 맞지 않는 값은 NULL 로 두고, 조회 시 문자열로 다시 계산 (이전과 같은 파싱 예외)
+ */
+public class V8__Backfill_time_minutes extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        backfill(connection, "recurring_schedule", "start_time", "end_time", "start_minute", "end_minute");
+        backfill(connection, "recurring_exception",
+                "modified_start_time", "modified_end_time", "modified_start_minute", "modified_end_minute");
+    }
+
+    private static void backfill(Connection connection, String table,
+                                 String startColumn, String endColumn,
+                                 String startMinuteColumn, String endMinuteColumn) throws Exception {
+        try (Statement select = connection.createStatement();
+             ResultSet rows = select.executeQuery(
+                     "SELECT id, " + startColumn + ", " + endColumn + " FROM " + table +
+                     " WHERE " + startColumn + " IS NOT NULL OR " + endColumn + " IS NOT NULL");
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE " + table + " SET " + startMinuteColumn + " = ?, " + endMinuteColumn + " = ? WHERE id = ?")) {
+
+            int pending = 0;
+            while (rows.next()) {
+                setMinute(update, 1, rows.getString(startColumn));
+                setMinute(update, 2, rows.getString(endColumn));
+                update.setLong(3, rows.getLong("id"));
+                update.addBatch();
+
+                if (++pending == BATCH_SIZE) {
+                    update.executeBatch();
+                    pending = 0;
+                }
+            }
+
+            if (pending > 0) {
+                update.executeBatch();
+            }
+        }
+    }
+
+    private static void setMinute(PreparedStatement statement, int index, String time) throws Exception {
+        Integer minute = toMinute(time);
+        if (minute == null) {
+            statement.setNull(index, Types.SMALLINT);
+        } else {
+            statement.setInt(index, minute);
+        }
+    }
+
+    /**
+     * "HH:mm" -> 하루 중 분 (형식이 맞지 않으면 null)
+     */
+    private static Integer toMinute(String time) {
+        if (time == null || !time.matches("\\d{2}:\\d{2}")) {
+            return null;
+        }
+
+        int hour = Integer.parseInt(time.substring(0, 2));
+        int minute = Integer.parseInt(time.substring(3, 5));
+        if (hour == 24 && minute == 0) {
+            return 0; // "24:00" 은 자정
+        }
+        return hour < 24 && minute < 60 ? hour * 60 + minute : null;
+    }
+}
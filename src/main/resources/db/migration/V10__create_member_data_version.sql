@@ -0,0 +1,7 @@
+-- 회원 데이터 버전: 일정/반복 일정/완료 이력 쓰기마다 1 증가 (조회 API ETag 용)
+-- 쓰기마다 갱신되는 행이므로 member 테이블과 분리 (외래 키 없이 회원 ID 만 보관)
+CREATE TABLE member_data_version (
+    member_id    BIGINT NOT NULL,
+    data_version BIGINT NOT NULL,
+    PRIMARY KEY (member_id)
+);
@@ -0,0 +1,18 @@
+-- 반복 요일을 recurring_schedule_day 행 대신 7비트 마스크로 저장 (bit0 = 월요일 ... bit6 = 일요일)
+-- 기존 요일 행에서 채우고, 이전 버전 인스턴스가 읽을 수 있도록 recurring_schedule_day 는 그대로 둠
+ALTER TABLE recurring_schedule ADD COLUMN days_mask TINYINT DEFAULT 0 NOT NULL;
+
+UPDATE recurring_schedule
+SET days_mask = (
+    SELECT COALESCE(SUM(DISTINCT CASE d.day_of_week
+                                     WHEN 'MONDAY' THEN 1
+                                     WHEN 'TUESDAY' THEN 2
+                                     WHEN 'WEDNESDAY' THEN 4
+                                     WHEN 'THURSDAY' THEN 8
+                                     WHEN 'FRIDAY' THEN 16
+                                     WHEN 'SATURDAY' THEN 32
+                                     WHEN 'SUNDAY' THEN 64
+                                     ELSE 0 END), 0)
+    FROM recurring_schedule_day d
+    WHERE d.recurring_schedule_id = recurring_schedule.id
+);
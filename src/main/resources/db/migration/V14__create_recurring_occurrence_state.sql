@@ -0,0 +1,12 @@
+-- 반복 일정 발생일 테이블 관리 상태 (행 하나)
+-- 기간 연장은 잠금(locked_by, locked_until)을 얻은 인스턴스 하나만 실행하고, 채운 마지막 날짜를 materialized_until 에 기록
+-- 잠금은 locked_until 이 지나면 다른 인스턴스가 가져갈 수 있음 (실행 중에는 페이지마다 연장)
+CREATE TABLE recurring_occurrence_state (
+    id                 TINYINT     NOT NULL,
+    materialized_until DATE,
+    locked_by          VARCHAR(64),
+    locked_until       DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+INSERT INTO recurring_occurrence_state (id) VALUES (1);
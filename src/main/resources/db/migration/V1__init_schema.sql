@@ -0,0 +1,98 @@
+-- 기존에 ddl-auto: update 로 생성되던 스키마
+-- 이미 테이블이 있는 DB 는 baseline-on-migrate 로 이 버전을 건너뜀
+
+CREATE TABLE member (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    email          VARCHAR(255) NOT NULL,
+    password       VARCHAR(255) NOT NULL,
+    name           VARCHAR(255) NOT NULL,
+    role           VARCHAR(255) NOT NULL,
+    email_verified BOOLEAN      NOT NULL,
+    created_date   DATETIME(6),
+    modified_date  DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE email_verification_token (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    email         VARCHAR(255) NOT NULL,
+    code          VARCHAR(255) NOT NULL,
+    expiry_date   DATETIME(6)  NOT NULL,
+    verified      BOOLEAN      NOT NULL,
+    created_date  DATETIME(6),
+    modified_date DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE schedules (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    member_id   BIGINT       NOT NULL,
+    content     VARCHAR(255) NOT NULL,
+    start_date  DATETIME(6),
+    end_date    DATETIME(6),
+    completed   BOOLEAN,
+    priority    VARCHAR(255),
+    description TEXT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_schedules_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+
+CREATE TABLE recurring_schedule (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    member_id     BIGINT       NOT NULL,
+    content       VARCHAR(255) NOT NULL,
+    pattern_type  VARCHAR(255) NOT NULL,
+    `interval`    INT DEFAULT 1 NOT NULL,
+    day_of_month  INT,
+    week_of_month INT,
+    start_date    DATETIME(6),
+    end_date      DATETIME(6),
+    start_time    VARCHAR(255),
+    end_time      VARCHAR(255),
+    priority      VARCHAR(255),
+    description   TEXT,
+    create_at     DATETIME(6),
+    update_at     DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_recurring_schedule_member FOREIGN KEY (member_id) REFERENCES member (id)
+);
+
+CREATE TABLE recurring_schedule_day (
+    id                    BIGINT       NOT NULL AUTO_INCREMENT,
+    recurring_schedule_id BIGINT       NOT NULL,
+    day_of_week           VARCHAR(255) NOT NULL,
+    created_at            DATETIME(6),
+    updated_at            DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_recurring_schedule_day_schedule FOREIGN KEY (recurring_schedule_id) REFERENCES recurring_schedule (id)
+);
+
+CREATE TABLE recurring_exception (
+    id                    BIGINT       NOT NULL AUTO_INCREMENT,
+    recurring_schedule_id BIGINT       NOT NULL,
+    exception_date        DATE         NOT NULL,
+    exception_type        VARCHAR(255) NOT NULL,
+    modified_title        VARCHAR(255),
+    modified_start_time   VARCHAR(255),
+    modified_end_time     VARCHAR(255),
+    modified_priority     VARCHAR(255),
+    modified_description  TEXT,
+    created_at            DATETIME(6),
+    updated_at            DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_recurring_exception_schedule FOREIGN KEY (recurring_schedule_id) REFERENCES recurring_schedule (id)
+);
+
+CREATE TABLE schedule_completion_history (
+    id              BIGINT  NOT NULL AUTO_INCREMENT,
+    schedule_id     BIGINT  NOT NULL,
+    is_recurring    BOOLEAN NOT NULL,
+    completion_date DATE    NOT NULL,
+    completed       BOOLEAN NOT NULL,
+    member_id       BIGINT  NOT NULL,
+    create_at       DATETIME(6),
+    updated_at      DATETIME(6),
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,34 @@
+-- 리포지토리 조회 조건에 맞춘 복합 인덱스
+
+-- ScheduleRepository.findSchedulesForDateRangeAndMember (memberId + 기간 겹침)
+CREATE INDEX idx_schedules_member_period ON schedules (member_id, start_date, end_date);
+
+-- RecurringScheduleRepository.findActiveOnDate / findActiveInRange
+CREATE INDEX idx_recurring_schedule_member_start ON recurring_schedule (member_id, start_date);
+
+-- RecurringScheduleDayRepository.findByRecurringScheduleIdAndDayOfWeek
+CREATE INDEX idx_recurring_schedule_day_schedule_day ON recurring_schedule_day (recurring_schedule_id, day_of_week);
+
+-- CompletionHistoryRepository.findByScheduleIdAndCompletionDateAndIsRecurring
+CREATE INDEX idx_completion_schedule_date_recurring ON schedule_completion_history (schedule_id, completion_date, is_recurring);
+
+-- CompletionHistoryRepository.findByCompletionDateAndMemberId
+CREATE INDEX idx_completion_date_member ON schedule_completion_history (completion_date, member_id);
+
+-- RecurringExceptionRepository.findByRecurringScheduleIdAndExceptionDate (패턴당 날짜별 예외는 하나)
+-- 중복 데이터가 있으면 가장 먼저 등록된 예외만 남김
+DELETE FROM recurring_exception
+WHERE id NOT IN (
+    SELECT id FROM (
+        SELECT MIN(id) AS id
+        FROM recurring_exception
+        GROUP BY recurring_schedule_id, exception_date
+    ) AS keep_ids
+);
+
+CREATE UNIQUE INDEX uk_recurring_exception_schedule_date ON recurring_exception (recurring_schedule_id, exception_date);
+
+-- MemberRepository.findByEmail (로그인 아이디) 유니크 인덱스는 중복 이메일 확인이 필요하므로 V12 에서 생성
+
+-- EmailVerificationTokenRepository.findByEmailAndCode
+CREATE INDEX idx_email_verification_token_email_code ON email_verification_token (email, code);
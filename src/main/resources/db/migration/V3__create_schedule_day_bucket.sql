@@ -0,0 +1,11 @@
+-- 일반 일정 날짜 버킷: 일정이 걸쳐 있는 날짜마다 한 행
+-- PK 순서대로 (member_id, day_key) 조회가 연속 범위 스캔이 되도록 함
+CREATE TABLE schedule_day_bucket (
+    member_id   BIGINT NOT NULL,
+    day_key     DATE   NOT NULL,
+    schedule_id BIGINT NOT NULL,
+    PRIMARY KEY (member_id, day_key, schedule_id),
+    CONSTRAINT fk_schedule_day_bucket_schedule FOREIGN KEY (schedule_id) REFERENCES schedules (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_schedule_day_bucket_schedule ON schedule_day_bucket (schedule_id);
@@ -0,0 +1,2 @@
+-- CompletionHistoryRepository.findByMemberIdAndCompletionDateBetween (기간 조회)
+CREATE INDEX idx_completion_member_date ON schedule_completion_history (member_id, completion_date);
@@ -0,0 +1,25 @@
+-- CompletionHistoryRepository.toggleCompleted (INSERT ... ON DUPLICATE KEY UPDATE)
+-- 회원/일정/날짜별 완료 이력은 하나만 존재
+-- 중복 데이터는 조회 시와 같이 하나라도 완료면 완료로 합친 뒤 가장 먼저 등록된 이력만 남김
+UPDATE schedule_completion_history
+SET completed = TRUE
+WHERE id IN (
+    SELECT id FROM (
+        SELECT MIN(id) AS id
+        FROM schedule_completion_history
+        GROUP BY member_id, schedule_id, is_recurring, completion_date
+        HAVING COUNT(*) > 1 AND SUM(CASE WHEN completed THEN 1 ELSE 0 END) > 0
+    ) AS merged_ids
+);
+
+DELETE FROM schedule_completion_history
+WHERE id NOT IN (
+    SELECT id FROM (
+        SELECT MIN(id) AS id
+        FROM schedule_completion_history
+        GROUP BY member_id, schedule_id, is_recurring, completion_date
+    ) AS keep_ids
+);
+
+CREATE UNIQUE INDEX uk_completion_member_schedule_date
+    ON schedule_completion_history (member_id, schedule_id, is_recurring, completion_date);
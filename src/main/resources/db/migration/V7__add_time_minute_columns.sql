@@ -0,0 +1,7 @@
+-- 반복 일정 시간("HH:mm")을 하루 중 분(0 ~ 1439)으로도 저장 (발생일 생성 시 문자열 파싱 제거)
+-- 기존 데이터는 V8 에서 변환
+ALTER TABLE recurring_schedule ADD COLUMN start_minute SMALLINT;
+ALTER TABLE recurring_schedule ADD COLUMN end_minute SMALLINT;
+
+ALTER TABLE recurring_exception ADD COLUMN modified_start_minute SMALLINT;
+ALTER TABLE recurring_exception ADD COLUMN modified_end_minute SMALLINT;
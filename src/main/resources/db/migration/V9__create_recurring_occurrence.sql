@@ -0,0 +1,13 @@
+-- 반복 일정 발생일 테이블: 오늘부터 일정 기간(horizon) 동안의 발생일마다 한 행 (건너뛰기 예외 제외)
+-- PK 순서대로 (member_id, occurrence_date) 조회가 연속 범위 스캔이 되고,
+-- schedule_completion_history 의 (member_id, schedule_id, is_recurring, completion_date) 와 바로 조인할 수 있음
+CREATE TABLE recurring_occurrence (
+    member_id             BIGINT NOT NULL,
+    occurrence_date       DATE   NOT NULL,
+    recurring_schedule_id BIGINT NOT NULL,
+    PRIMARY KEY (member_id, occurrence_date, recurring_schedule_id),
+    CONSTRAINT fk_recurring_occurrence_schedule FOREIGN KEY (recurring_schedule_id) REFERENCES recurring_schedule (id) ON DELETE CASCADE
+);
+
+-- 패턴 단위 재생성(생성/수정/예외 변경) 시 삭제 범위 조회용
+CREATE INDEX idx_recurring_occurrence_schedule_date ON recurring_occurrence (recurring_schedule_id, occurrence_date);
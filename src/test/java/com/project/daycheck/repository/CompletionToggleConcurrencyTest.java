@@ -0,0 +1,289 @@
+package com.project.daycheck.repository;
+
+import com.project.daycheck.config.security.CurrentMemberResolver;
+import com.project.daycheck.dto.CompletionHistoryDTO;
+import com.project.daycheck.entity.CompletionHistory;
+import com.project.daycheck.service.CompletionHistoryService;
+import com.project.daycheck.service.calendar.DayViewCache;
+import com.project.daycheck.service.calendar.MemberDataVersion;
+import com.project.daycheck.service.completion.CompletionIndexCache;
+import com.project.daycheck.service.completion.CompletionWriteBuffer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 완료 상태 토글이 동시에 들어와도 이력이 하나만 생기고 토글 횟수만큼 상태가 반전되는지 검증 (H2 MySQL 모드)
+ * 즉시 저장 모드와 write-behind 모드를 모두 확인
+ * 토글마다 회원 데이터 버전(ETag)이 바뀌는지도 확인
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 스레드별 트랜잭션이 각각 커밋되도록 테스트 트랜잭션 미사용
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:completion_toggle;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+class CompletionToggleConcurrencyTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final LocalDate DATE = LocalDate.of(2025, 5, 14);
+
+    private static final int THREADS = 16;
+    private static final int TOGGLES_PER_THREAD = 25;
+
+    @Autowired
+    private CompletionHistoryRepository completionHistoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private CompletionHistoryService completionHistoryService;
+    private CompletionHistoryService writeBehindService;
+    private CompletionWriteBuffer writeBuffer;
+    private MemberDataVersion memberDataVersion;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        CurrentMemberResolver currentMemberResolver = mock(CurrentMemberResolver.class);
+        when(currentMemberResolver.getCurrentMemberId()).thenReturn(MEMBER_ID);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        memberDataVersion = new MemberDataVersion(jdbcTemplate, currentMemberResolver, new SimpleMeterRegistry(), 100, 5);
+        DayViewCache dayViewCache = new DayViewCache(new SimpleMeterRegistry(), memberDataVersion, false, 1000, 10);
+
+        CompletionIndexCache completionIndexCache = new CompletionIndexCache(new SimpleMeterRegistry(), 100, 30, 90);
+        completionHistoryService = new CompletionHistoryService(completionHistoryRepository, currentMemberResolver,
+                completionIndexCache,
+                new CompletionWriteBuffer(jdbcTemplate, transactionManager, completionIndexCache, memberDataVersion, false, 100, 100),
+                dayViewCache, memberDataVersion);
+
+        CompletionIndexCache writeBehindIndexCache = new CompletionIndexCache(new SimpleMeterRegistry(), 100, 30, 90);
+        writeBuffer = new CompletionWriteBuffer(jdbcTemplate, transactionManager, writeBehindIndexCache, memberDataVersion, true, 10_000, 100);
+        writeBehindService = new CompletionHistoryService(completionHistoryRepository, currentMemberResolver,
+                writeBehindIndexCache, writeBuffer, dayViewCache, memberDataVersion);
+
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void firstToggleCompletesAndSecondToggleReverts() {
+        Long scheduleId = 100L;
+
+        CompletionHistoryDTO first = toggle(scheduleId, false);
+        CompletionHistoryDTO second = toggle(scheduleId, false);
+
+        assertThat(first.getCompleted()).isTrue();
+        assertThat(second.getCompleted()).isFalse();
+        assertThat(second.getId()).isEqualTo(first.getId());
+        assertThat(rows(scheduleId, false)).hasSize(1);
+    }
+
+    @Test
+    void concurrentTogglesKeepOneRowAndFlipOncePerToggle() throws Exception {
+        Long scheduleId = 200L;
+
+        // 인덱스를 미리 만들어 두고 커밋 후 갱신이 DB 상태와 일치하는지도 확인
+        assertThat(isCompleted(scheduleId)).isFalse();
+        long versionBefore = dataVersion();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < TOGGLES_PER_THREAD; j++) {
+                        toggleWithRetry(scheduleId);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<CompletionHistory> rows = rows(scheduleId, true);
+        boolean expectedCompleted = (THREADS * TOGGLES_PER_THREAD) % 2 == 1;
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getCompleted()).isEqualTo(expectedCompleted);
+        assertThat(isCompleted(scheduleId)).isEqualTo(expectedCompleted);
+        assertThat(dataVersion() - versionBefore).isEqualTo(THREADS * TOGGLES_PER_THREAD);
+
+        // 한 번 더 토글하면 반대 상태
+        assertThat(toggle(scheduleId, true).getCompleted()).isEqualTo(!expectedCompleted);
+    }
+
+    @Test
+    void writeBehindCoalescesTogglesAndFlushesOnlyNetChange() {
+        Long scheduleId = 300L;
+
+        assertThat(writeBehindToggle(scheduleId).getCompleted()).isTrue();
+        assertThat(writeBehindToggle(scheduleId).getCompleted()).isFalse();
+        assertThat(writeBehindToggle(scheduleId).getCompleted()).isTrue();
+
+        // 저장 전에도 자기 쓰기가 보임
+        assertThat(rows(scheduleId, true)).isEmpty();
+        assertThat(isCompleted(writeBehindService, scheduleId)).isTrue();
+        assertThat(transactionTemplate.execute(status -> writeBehindService.getCompletionMapByDate(DATE)))
+                .containsEntry("R" + scheduleId, true);
+
+        writeBuffer.flush();
+        assertThat(rows(scheduleId, true)).singleElement()
+                .satisfies(row -> assertThat(row.getCompleted()).isTrue());
+
+        // 두 번 토글하면 상쇄되어 저장할 변경이 없음
+        writeBehindToggle(scheduleId);
+        writeBehindToggle(scheduleId);
+        assertThat(writeBuffer.getPending(MEMBER_ID, pending -> true)).isEmpty();
+        assertThat(isCompleted(writeBehindService, scheduleId)).isTrue();
+    }
+
+    @Test
+    void eTagChangesOnWriteBehindToggleAndAfterFlush() {
+        Long scheduleId = 500L;
+
+        String before = memberDataVersion.currentETag();
+        writeBehindToggle(scheduleId);
+        String pending = memberDataVersion.currentETag();
+
+        writeBuffer.flush();
+        String flushed = memberDataVersion.currentETag();
+
+        // 저장 전에도 자기 쓰기가 새 ETag 로 보이고, 저장 후에는 이전 ETag 로 돌아가지 않음
+        assertThat(pending).isNotEqualTo(before);
+        assertThat(flushed).isNotEqualTo(before).isNotEqualTo(pending);
+        assertThat(memberDataVersion.currentETag()).isEqualTo(flushed);
+    }
+
+    @Test
+    void writeBehindTogglesDuringConcurrentFlushesFlipOncePerToggle() throws Exception {
+        Long scheduleId = 400L;
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean toggling = new AtomicBoolean(true);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            Future<?> flusher = executor.submit(() -> {
+                start.await();
+                while (toggling.get()) {
+                    writeBuffer.flush();
+                }
+                return null;
+            });
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < TOGGLES_PER_THREAD; j++) {
+                        writeBehindToggle(scheduleId);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            toggling.set(false);
+            flusher.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        writeBuffer.flush();
+        boolean expectedCompleted = (THREADS * TOGGLES_PER_THREAD) % 2 == 1;
+
+        assertThat(writeBuffer.getPending(MEMBER_ID, pending -> true)).isEmpty();
+        assertThat(isCompleted(writeBehindService, scheduleId)).isEqualTo(expectedCompleted);
+        List<CompletionHistory> rows = rows(scheduleId, true);
+        if (!rows.isEmpty()) {
+            // 중간 저장이 있었다면 이력은 하나이고 마지막 상태와 같음
+            assertThat(rows).hasSize(1);
+            assertThat(rows.get(0).getCompleted()).isEqualTo(expectedCompleted);
+        }
+    }
+
+    private CompletionHistoryDTO toggle(Long scheduleId, boolean isRecurring) {
+        return transactionTemplate.execute(status ->
+                completionHistoryService.toggleCompletion(scheduleId, DATE, isRecurring));
+    }
+
+    private CompletionHistoryDTO writeBehindToggle(Long scheduleId) {
+        return transactionTemplate.execute(status ->
+                writeBehindService.toggleCompletion(scheduleId, DATE, true));
+    }
+
+    /**
+     * 잠금 경합으로 트랜잭션이 롤백된 경우(교착 상태 등)는 반영되지 않았으므로 다시 시도
+     */
+    private void toggleWithRetry(Long scheduleId) {
+        while (true) {
+            try {
+                toggle(scheduleId, true);
+                return;
+            } catch (ConcurrencyFailureException e) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private boolean isCompleted(Long scheduleId) {
+        return isCompleted(completionHistoryService, scheduleId);
+    }
+
+    private boolean isCompleted(CompletionHistoryService service, Long scheduleId) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status ->
+                service.isCompleted(scheduleId, true, DATE)));
+    }
+
+    private long dataVersion() {
+        List<Long> versions = jdbcTemplate.queryForList(
+                "SELECT data_version FROM member_data_version WHERE member_id = ?", Long.class, MEMBER_ID);
+        return versions.isEmpty() ? 0L : versions.get(0);
+    }
+
+    private List<CompletionHistory> rows(Long scheduleId, boolean isRecurring) {
+        return completionHistoryRepository.findByScheduleIdAndIsRecurringAndMemberId(scheduleId, isRecurring, MEMBER_ID);
+    }
+}
@@ -0,0 +1,108 @@
+package com.project.daycheck.repository;
+
+import com.project.daycheck.dto.RecurringScheduleDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 반복 일정 목록 조회 시 실행되는 SQL 수가 패턴 수와 무관한지 검증 (Hibernate 통계, H2 MySQL 모드)
+ * 요일은 패턴의 days_mask 에서 읽고, 예외는 default_batch_fetch_size 로 묶어서 조회
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:recurring_fetch;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false"
+})
+class RecurringScheduleFetchTest {
+
+    private static final Long FEW_PATTERNS_MEMBER_ID = 1L;
+    private static final Long MANY_PATTERNS_MEMBER_ID = 2L;
+
+    // 패턴(요일 포함), 예외(배치)
+    private static final long MAX_STATEMENTS = 2;
+
+    @Autowired
+    private RecurringScheduleRepository recurringScheduleRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        insertMemberWithWeeklyPatterns(FEW_PATTERNS_MEMBER_ID, 1);
+        insertMemberWithWeeklyPatterns(MANY_PATTERNS_MEMBER_ID, 50);
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void listStatementCountDoesNotDependOnPatternCount() {
+        long fewPatternStatements = statementsForList(FEW_PATTERNS_MEMBER_ID, 1);
+        long manyPatternStatements = statementsForList(MANY_PATTERNS_MEMBER_ID, 50);
+
+        assertThat(manyPatternStatements).isEqualTo(fewPatternStatements);
+        assertThat(manyPatternStatements).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    private long statementsForList(Long memberId, int expectedPatterns) {
+        entityManager.clear();
+        statistics.clear();
+
+        List<RecurringScheduleDTO> dtos = recurringScheduleRepository.findByMemberId(memberId).stream()
+                .map(RecurringScheduleDTO::fromEntity)
+                .collect(Collectors.toList());
+
+        assertThat(dtos).hasSize(expectedPatterns);
+        assertThat(dtos).allSatisfy(dto -> {
+            assertThat(dto.getDaysOfWeek()).hasSize(2);
+            assertThat(dto.getExceptionCount()).isEqualTo(1);
+        });
+        return statistics.getPrepareStatementCount();
+    }
+
+    /**
+     * 월/수 반복 패턴(days_mask = 5)과 패턴별 건너뛰기 예외 하나 저장
+     */
+    private void insertMemberWithWeeklyPatterns(Long memberId, int patternCount) {
+        jdbcTemplate.update("INSERT INTO member (id, email, password, name, role, email_verified) VALUES (?, ?, 'pw', 'tester', 'USER', TRUE)",
+                memberId, "member" + memberId + "@test.com");
+
+        for (int i = 0; i < patternCount; i++) {
+            long patternId = memberId * 1000 + i;
+            jdbcTemplate.update("INSERT INTO recurring_schedule (id, member_id, content, pattern_type, `interval`, start_date, start_time, end_time, start_minute, end_minute, days_mask) "
+                            + "VALUES (?, ?, ?, 'WEEKLY', 1, TIMESTAMP '2025-01-01 00:00:00', '09:00', '10:00', 540, 600, 5)",
+                    patternId, memberId, "반복 일정 " + patternId);
+            jdbcTemplate.update("INSERT INTO recurring_exception (recurring_schedule_id, exception_date, exception_type) VALUES (?, DATE '2025-05-14', 'SKIP')",
+                    patternId);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.project.daycheck.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Flyway 마이그레이션 적용 후 리포지토리 조회 조건에 맞는 인덱스가 생성되는지 검증 (H2 MySQL 모드)
+ */
+class SchemaMigrationTest {
+
+    private static final String URL = "jdbc:h2:mem:schema_migration;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final String USERNAME = "sa";
+    private static final String PASSWORD = "";
+
+    private static Flyway flyway;
+
+    @BeforeAll
+    static void migrate() {
+        flyway = Flyway.configure()
+                .dataSource(URL, USERNAME, PASSWORD)
+                .locations("classpath:db/migration")
+                .load();
+        flyway.migrate();
+    }
+
+    @Test
+    void allMigrationsAreApplied() {
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.validateWithResult().validationSuccessful).isTrue();
+    }
+
+    @Test
+    void createsCompositeIndexesForRepositoryQueries() throws SQLException {
+        assertThat(indexes("schedules", false))
+                .containsEntry("idx_schedules_member_period", List.of("member_id", "start_date", "end_date"));
+
+        assertThat(indexes("recurring_schedule", false))
+                .containsEntry("idx_recurring_schedule_member_start", List.of("member_id", "start_date"));
+
+        assertThat(indexes("recurring_schedule_day", false))
+                .containsEntry("idx_recurring_schedule_day_schedule_day", List.of("recurring_schedule_id", "day_of_week"));
+
+        assertThat(indexes("schedule_completion_history", false))
+                .containsEntry("idx_completion_schedule_date_recurring", List.of("schedule_id", "completion_date", "is_recurring"))
+                .containsEntry("idx_completion_date_member", List.of("completion_date", "member_id"))
+                .containsEntry("idx_completion_member_date", List.of("member_id", "completion_date"));
+
+        assertThat(indexes("email_verification_token", false))
+                .containsEntry("idx_email_verification_token_email_code", List.of("email", "code"));
+    }
+
+    @Test
+    void createsUniqueIndexes() throws SQLException {
+        assertThat(indexes("recurring_exception", true))
+                .containsEntry("uk_recurring_exception_schedule_date", List.of("recurring_schedule_id", "exception_date"));
+
+        assertThat(indexes("schedule_completion_history", true))
+                .containsEntry("uk_completion_member_schedule_date",
+                        List.of("member_id", "schedule_id", "is_recurring", "completion_date"));
+
+        assertThat(indexes("member", true))
+                .containsEntry("uk_member_email", List.of("email"));
+    }
+
+    @Test
+    void dayBucketPrimaryKeyServesMemberDayLookup() throws SQLException {
+        assertThat(primaryKey("schedule_day_bucket")).containsExactly("member_id", "day_key", "schedule_id");
+        assertThat(indexes("schedule_day_bucket", false))
+                .containsEntry("idx_schedule_day_bucket_schedule", List.of("schedule_id"));
+    }
+
+    @Test
+    void occurrencePrimaryKeyServesMemberDateRangeScan() throws SQLException {
+        assertThat(primaryKey("recurring_occurrence")).containsExactly("member_id", "occurrence_date", "recurring_schedule_id");
+        assertThat(indexes("recurring_occurrence", false))
+                .containsEntry("idx_recurring_occurrence_schedule_date", List.of("recurring_schedule_id", "occurrence_date"));
+    }
+
+    @Test
+    void daysMaskIsBackfilledFromScheduleDayRows() throws SQLException {
+        String url = "jdbc:h2:mem:days_mask_backfill;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+        Flyway.configure().dataSource(url, USERNAME, PASSWORD).locations("classpath:db/migration").target("10").load().migrate();
+
+        try (Connection connection = DriverManager.getConnection(url, USERNAME, PASSWORD);
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO member (id, email, password, name, role, email_verified) VALUES (1, 'a@test.com', 'pw', 'a', 'USER', TRUE)");
+            statement.execute("INSERT INTO recurring_schedule (id, member_id, content, pattern_type) VALUES (1, 1, '월수금', 'WEEKLY'), (2, 1, '매일', 'DAILY')");
+            statement.execute("INSERT INTO recurring_schedule_day (recurring_schedule_id, day_of_week) "
+                    + "VALUES (1, 'MONDAY'), (1, 'WEDNESDAY'), (1, 'FRIDAY'), (1, 'FRIDAY')");
+        }
+
+        Flyway.configure().dataSource(url, USERNAME, PASSWORD).locations("classpath:db/migration").load().migrate();
+
+        try (Connection connection = DriverManager.getConnection(url, USERNAME, PASSWORD);
+             Statement statement = connection.createStatement();
+             ResultSet masks = statement.executeQuery("SELECT id, days_mask FROM recurring_schedule ORDER BY id")) {
+            Map<Long, Integer> masksById = new LinkedHashMap<>();
+            while (masks.next()) {
+                masksById.put(masks.getLong("id"), masks.getInt("days_mask"));
+            }
+            // 월(1) + 수(4) + 금(16), 중복 요일 행은 한 번만 반영, 요일 행이 없으면 0
+            assertThat(masksById).containsExactly(Map.entry(1L, 21), Map.entry(2L, 0));
+        }
+    }
+
+    @Test
+    void memberEmailUniqueKeyRequiresNoDuplicateEmails() throws SQLException {
+        String url = "jdbc:h2:mem:member_email_unique;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+        Flyway.configure().dataSource(url, USERNAME, PASSWORD).locations("classpath:db/migration").target("11").load().migrate();
+
+        try (Connection connection = DriverManager.getConnection(url, USERNAME, PASSWORD);
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO member (id, email, password, name, role, email_verified) "
+                    + "VALUES (1, 'dup@test.com', 'pw', 'a', 'USER', TRUE), (2, 'dup@test.com', 'pw', 'b', 'USER', TRUE)");
+        }
+
+        // 중복 이메일이 있으면 데이터를 바꾸지 않고 이메일을 알려주며 실패
+        Flyway flyway = Flyway.configure().dataSource(url, USERNAME, PASSWORD).locations("classpath:db/migration").load();
+        assertThatThrownBy(flyway::migrate).hasMessageContaining("dup@test.com");
+
+        try (Connection connection = DriverManager.getConnection(url, USERNAME, PASSWORD);
+             Statement statement = connection.createStatement()) {
+            statement.execute("DELETE FROM member WHERE id = 2");
+        }
+
+        flyway.repair();
+        flyway.migrate();
+        assertThat(flyway.info().pending()).isEmpty();
+    }
+
+    @Test
+    void longSchedulesAreMarkedAndKeptOutOfDayBuckets() throws SQLException {
+        String url = "jdbc:h2:mem:schedule_long_span;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+        Flyway.configure().dataSource(url, USERNAME, PASSWORD).locations("classpath:db/migration").target("12").load().migrate();
+
+        try (Connection connection = DriverManager.getConnection(url, USERNAME, PASSWORD);
+             Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO member (id, email, password, name, role, email_verified) VALUES (1, 'a@test.com', 'pw', 'a', 'USER', TRUE)");
+            statement.execute("INSERT INTO schedules (id, member_id, content, start_date, end_date) VALUES "
+                    + "(1, 1, '1년', TIMESTAMP '2025-01-01 09:00:00', TIMESTAMP '2026-01-01 18:00:00'), "
+                    + "(2, 1, '1년 하루', TIMESTAMP '2025-01-01 09:00:00', TIMESTAMP '2026-01-02 18:00:00')");
+            // 이전 백필로 만들어진 버킷
+            statement.execute("INSERT INTO schedule_day_bucket (member_id, day_key, schedule_id) VALUES "
+                    + "(1, DATE '2025-01-01', 1), (1, DATE '2025-01-01', 2), (1, DATE '2025-01-02', 2)");
+        }
+
+        Flyway.configure().dataSource(url, USERNAME, PASSWORD).locations("classpath:db/migration").load().migrate();
+
+        try (Connection connection = DriverManager.getConnection(url, USERNAME, PASSWORD);
+             Statement statement = connection.createStatement()) {
+            Map<Long, Boolean> longSpanById = new LinkedHashMap<>();
+            try (ResultSet rows = statement.executeQuery("SELECT id, long_span FROM schedules ORDER BY id")) {
+                while (rows.next()) {
+                    longSpanById.put(rows.getLong("id"), rows.getBoolean("long_span"));
+                }
+            }
+            // 366일(2025-01-01 ~ 2026-01-01)까지는 버킷 유지, 367일부터 긴 일정
+            assertThat(longSpanById).containsExactly(Map.entry(1L, false), Map.entry(2L, true));
+
+            try (ResultSet rows = statement.executeQuery("SELECT DISTINCT schedule_id FROM schedule_day_bucket")) {
+                List<Long> bucketedIds = new ArrayList<>();
+                while (rows.next()) {
+                    bucketedIds.add(rows.getLong("schedule_id"));
+                }
+                assertThat(bucketedIds).containsExactly(1L);
+            }
+        }
+    }
+
+    /**
+     * 테이블의 기본 키 컬럼 목록 (키 순서)
+     */
+    private static List<String> primaryKey(String table) throws SQLException {
+        String[] columns = new String[8];
+        int count = 0;
+
+        try (Connection connection = DriverManager.getConnection(URL, USERNAME, PASSWORD);
+             ResultSet primaryKeys = connection.getMetaData().getPrimaryKeys(null, null, table)) {
+            while (primaryKeys.next()) {
+                columns[primaryKeys.getShort("KEY_SEQ") - 1] = primaryKeys.getString("COLUMN_NAME").toLowerCase(Locale.ROOT);
+                count++;
+            }
+        }
+        return Arrays.asList(columns).subList(0, count);
+    }
+
+    /**
+     * 테이블의 인덱스별 컬럼 목록 (인덱스 컬럼 순서 유지)
+     */
+    private static Map<String, List<String>> indexes(String table, boolean uniqueOnly) throws SQLException {
+        Map<String, List<String>> result = new LinkedHashMap<>();
+
+        try (Connection connection = DriverManager.getConnection(URL, USERNAME, PASSWORD);
+             ResultSet indexInfo = connection.getMetaData().getIndexInfo(null, null, table, uniqueOnly, false)) {
+            while (indexInfo.next()) {
+                String indexName = indexInfo.getString("INDEX_NAME");
+                String columnName = indexInfo.getString("COLUMN_NAME");
+                if (indexName == null || columnName == null) {
+                    continue;
+                }
+                result.computeIfAbsent(indexName.toLowerCase(Locale.ROOT), name -> new ArrayList<>())
+                        .add(columnName.toLowerCase(Locale.ROOT));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,152 @@
+package com.project.daycheck.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.daycheck.config.security.CurrentMemberResolver;
+import com.project.daycheck.config.security.MemberPrincipal;
+import com.project.daycheck.controller.NdjsonWriter;
+import com.project.daycheck.entity.RecurringSchedule;
+import com.project.daycheck.repository.RecurringExceptionRepository;
+import com.project.daycheck.repository.RecurringOccurrenceRepository;
+import com.project.daycheck.repository.RecurringScheduleDayRepository;
+import com.project.daycheck.repository.RecurringScheduleRepository;
+import com.project.daycheck.service.calendar.MemberDataVersion;
+import com.project.daycheck.service.recurrence.RecurrenceIndex;
+import com.project.daycheck.service.recurrence.RecurrenceMatcherCache;
+import com.project.daycheck.service.recurrence.RecurringOccurrenceMaterializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 10년치 반복 일정 NDJSON 스트리밍 시 힙 사용량이 기간 길이와 무관하게 유지되는지 검증
+ * 응답 본문은 버리고 일정 줄 수마다 GC 후 사용 중인 힙을 기록해 처음 측정값과 비교
+ * (전체 목록을 만들면 일정 DTO 만 수십 MB 가 남음)
+ */
+class RecurringScheduleStreamingTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+    private static final LocalDate TO = FROM.plusYears(10).minusDays(1);
+    private static final int PATTERN_COUNT = 100;
+
+    private static final long SAMPLE_EVERY_LINES = 50_000;
+    private static final long MAX_HEAP_GROWTH_BYTES = 32L * 1024 * 1024;
+
+    private static final List<GrantedAuthority> AUTHORITIES = AuthorityUtils.createAuthorityList("ROLE_USER");
+
+    private RecurringScheduleRepository recurringScheduleRepository;
+    private RecurringScheduleService recurringScheduleService;
+
+    @BeforeEach
+    void setUp() {
+        recurringScheduleRepository = mock(RecurringScheduleRepository.class);
+        RecurringExceptionRepository recurringExceptionRepository = mock(RecurringExceptionRepository.class);
+        RecurringOccurrenceRepository recurringOccurrenceRepository = mock(RecurringOccurrenceRepository.class);
+
+        CurrentMemberResolver currentMemberResolver = new CurrentMemberResolver(mock(MemberService.class));
+        RecurrenceMatcherCache recurrenceMatcherCache = new RecurrenceMatcherCache(new SimpleMeterRegistry(), 1000);
+        MemberDataVersion memberDataVersion = new MemberDataVersion(
+                mock(JdbcTemplate.class), currentMemberResolver, new SimpleMeterRegistry(), 100, 5);
+        recurringScheduleService = new RecurringScheduleService(recurringScheduleRepository,
+                mock(RecurringScheduleDayRepository.class), recurringExceptionRepository, currentMemberResolver,
+                recurrenceMatcherCache, recurringOccurrenceRepository,
+                new RecurringOccurrenceMaterializer(recurringOccurrenceRepository, recurringScheduleRepository,
+                        recurringExceptionRepository, recurrenceMatcherCache,
+                        mock(PlatformTransactionManager.class), mock(JdbcTemplate.class), false, 90, 30),
+                memberDataVersion,
+                new RecurrenceIndex(recurrenceMatcherCache, memberDataVersion, new SimpleMeterRegistry(), false, 100, 5));
+
+        MemberPrincipal principal = new MemberPrincipal("user@test.com", MEMBER_ID, AUTHORITIES);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, "", AUTHORITIES));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void tenYearStreamKeepsHeapBounded() throws Exception {
+        when(recurringScheduleRepository.findActiveInRange(anyLong(), any(), any())).thenReturn(dailyPatterns(PATTERN_COUNT));
+        long expectedLines = PATTERN_COUNT * (ChronoUnit.DAYS.between(FROM, TO) + 1);
+
+        HeapSamplingOutputStream out = new HeapSamplingOutputStream();
+        long written = new NdjsonWriter(new ObjectMapper().findAndRegisterModules())
+                .write(out, recurringScheduleService.streamRecurringSchedules(FROM, TO));
+
+        assertThat(written).isEqualTo(expectedLines);
+        assertThat(out.lines).isEqualTo(expectedLines);
+        assertThat(out.samples).hasSizeGreaterThan(2);
+
+        long baseline = out.samples.get(0);
+        assertThat(out.samples).allSatisfy(used -> assertThat(used - baseline).isLessThan(MAX_HEAP_GROWTH_BYTES));
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private List<RecurringSchedule> dailyPatterns(int count) {
+        List<RecurringSchedule> patterns = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            patterns.add(RecurringSchedule.builder()
+                    .id(id)
+                    .memberId(MEMBER_ID)
+                    .content("반복 일정 " + id)
+                    .patternType("DAILY")
+                    .interval(1)
+                    .startDate(LocalDateTime.of(2025, 1, 1, 0, 0))
+                    .startTime("09:00")
+                    .endTime("10:00")
+                    .priority("medium")
+                    .build());
+        }
+        return patterns;
+    }
+
+    /**
+     * 기록된 바이트는 버리고 줄 수만 세면서 SAMPLE_EVERY_LINES 줄마다 힙 사용량 기록
+     */
+    private static final class HeapSamplingOutputStream extends OutputStream {
+
+        private final List<Long> samples = new ArrayList<>();
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n' && ++lines % SAMPLE_EVERY_LINES == 0) {
+                samples.add(usedHeapAfterGc());
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                write(b[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,376 @@
+package com.project.daycheck.service;
+
+import com.project.daycheck.config.security.CurrentMemberResolver;
+import com.project.daycheck.config.security.MemberPrincipal;
+import com.project.daycheck.dto.CompletionStatsDTO;
+import com.project.daycheck.dto.ScheduleDTO;
+import com.project.daycheck.entity.CompletionHistory;
+import com.project.daycheck.entity.DayOfWeekMask;
+import com.project.daycheck.entity.Member;
+import com.project.daycheck.entity.RecurringSchedule;
+import com.project.daycheck.entity.Schedules;
+import com.project.daycheck.repository.CompletionHistoryRepository;
+import com.project.daycheck.repository.RecurringExceptionRepository;
+import com.project.daycheck.repository.RecurringOccurrenceRepository;
+import com.project.daycheck.repository.RecurringScheduleDayRepository;
+import com.project.daycheck.repository.RecurringScheduleRepository;
+import com.project.daycheck.repository.ScheduleDayBucketRepository;
+import com.project.daycheck.repository.ScheduleRepository;
+import com.project.daycheck.service.calendar.DayViewCache;
+import com.project.daycheck.service.calendar.MemberDataVersion;
+import com.project.daycheck.service.calendar.QueryFanOutExecutor;
+import com.project.daycheck.service.completion.CompletionIndexCache;
+import com.project.daycheck.service.completion.CompletionWriteBuffer;
+import com.project.daycheck.service.recurrence.RecurrenceIndex;
+import com.project.daycheck.service.recurrence.RecurrenceMatcherCache;
+import com.project.daycheck.service.recurrence.RecurringOccurrenceMaterializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+
+/**
+ * 날짜별 통합 일정 조회 시 조회 횟수가 반복 일정 개수와 무관한지 검증
+ */
+class ScheduleQueryServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final LocalDate DATE = LocalDate.of(2025, 5, 14);
+
+    // 일반 일정 + 반복 패턴(요일은 days_mask) + 예외 + 완료 이력 (회원 ID는 토큰 클레임에서 가져옴)
+    private static final int MAX_QUERIES_PER_REQUEST = 4;
+
+    private static final List<GrantedAuthority> AUTHORITIES = AuthorityUtils.createAuthorityList("ROLE_USER");
+
+    private MemberService memberService;
+    private ScheduleRepository scheduleRepository;
+    private RecurringScheduleRepository recurringScheduleRepository;
+    private RecurringScheduleDayRepository recurringScheduleDayRepository;
+    private RecurringExceptionRepository recurringExceptionRepository;
+    private CompletionHistoryRepository completionHistoryRepository;
+
+    private DayViewCache dayViewCache;
+    private JdbcTemplate versionJdbcTemplate;
+    private MemberDataVersion memberDataVersion;
+    private QueryFanOutExecutor queryFanOutExecutor;
+    private ScheduleQueryService scheduleQueryService;
+
+    // true 로 바꾼 뒤 setUp() 을 다시 호출하면 일반/반복 일정을 작업 스레드에서 조회
+    private boolean parallelFanOut;
+
+    // true 로 바꾼 뒤 setUp() 을 다시 호출하면 반복 일정을 날짜 역색인으로 조회
+    private boolean recurrenceIndexEnabled;
+
+    @BeforeEach
+    void setUp() {
+        memberService = mock(MemberService.class);
+        scheduleRepository = mock(ScheduleRepository.class);
+        recurringScheduleRepository = mock(RecurringScheduleRepository.class);
+        recurringScheduleDayRepository = mock(RecurringScheduleDayRepository.class);
+        recurringExceptionRepository = mock(RecurringExceptionRepository.class);
+        completionHistoryRepository = mock(CompletionHistoryRepository.class);
+
+        Member member = mock(Member.class);
+        when(member.getId()).thenReturn(MEMBER_ID);
+        when(memberService.findMemberByEmail(anyString())).thenReturn(member);
+
+        when(scheduleRepository.findSchedulesForDateRangeAndMember(any(), any(), anyLong())).thenReturn(Collections.emptyList());
+        when(recurringExceptionRepository.findByMemberIdAndDate(anyLong(), any())).thenReturn(Collections.emptyList());
+        when(completionHistoryRepository.findByCompletionDateAndMemberId(any(), anyLong())).thenReturn(List.of(
+                CompletionHistory.builder()
+                        .scheduleId(1L)
+                        .isRecurring(true)
+                        .completionDate(DATE)
+                        .completed(true)
+                        .memberId(MEMBER_ID)
+                        .build()));
+
+        CurrentMemberResolver currentMemberResolver = new CurrentMemberResolver(memberService);
+        CompletionIndexCache completionIndexCache = new CompletionIndexCache(new SimpleMeterRegistry(), 100, 30, 90);
+        RecurrenceMatcherCache recurrenceMatcherCache = new RecurrenceMatcherCache(new SimpleMeterRegistry(), 1000);
+        RecurringOccurrenceRepository recurringOccurrenceRepository = mock(RecurringOccurrenceRepository.class);
+        versionJdbcTemplate = mock(JdbcTemplate.class);
+        memberDataVersion = new MemberDataVersion(
+                versionJdbcTemplate, currentMemberResolver, new SimpleMeterRegistry(), 100, 5);
+        dayViewCache = new DayViewCache(new SimpleMeterRegistry(), memberDataVersion, true, 1000, 10);
+        queryFanOutExecutor = new QueryFanOutExecutor(new SimpleMeterRegistry(), parallelFanOut, 2, 10);
+        scheduleQueryService = new ScheduleQueryService(
+                new ScheduleService(scheduleRepository, mock(ScheduleDayBucketRepository.class), currentMemberResolver,
+                        memberDataVersion, mock(JdbcTemplate.class)),
+                new RecurringScheduleService(recurringScheduleRepository, recurringScheduleDayRepository,
+                        recurringExceptionRepository, currentMemberResolver, recurrenceMatcherCache,
+                        recurringOccurrenceRepository,
+                        new RecurringOccurrenceMaterializer(recurringOccurrenceRepository, recurringScheduleRepository,
+                                recurringExceptionRepository, recurrenceMatcherCache,
+                                mock(PlatformTransactionManager.class), mock(JdbcTemplate.class), false, 90, 30),
+                        memberDataVersion,
+                        new RecurrenceIndex(recurrenceMatcherCache, memberDataVersion, new SimpleMeterRegistry(), recurrenceIndexEnabled, 100, 5)),
+                new CompletionHistoryService(completionHistoryRepository, currentMemberResolver, completionIndexCache,
+                        new CompletionWriteBuffer(mock(JdbcTemplate.class), mock(PlatformTransactionManager.class),
+                                completionIndexCache, memberDataVersion, false, 100, 100),
+                        dayViewCache, memberDataVersion),
+                currentMemberResolver,
+                dayViewCache,
+                queryFanOutExecutor);
+
+        MemberPrincipal principal = new MemberPrincipal("user@test.com", MEMBER_ID, AUTHORITIES);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, "", AUTHORITIES));
+    }
+
+    @AfterEach
+    void tearDown() {
+        queryFanOutExecutor.shutdown();
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void queryCountDoesNotDependOnPatternCount() {
+        int fewPatternQueries = countQueriesFor(1);
+        setUp();
+        int manyPatternQueries = countQueriesFor(200);
+
+        assertThat(manyPatternQueries).isEqualTo(fewPatternQueries);
+        assertThat(manyPatternQueries).isLessThanOrEqualTo(MAX_QUERIES_PER_REQUEST);
+    }
+
+    @Test
+    void recurringOccurrencesArriveFullyPopulated() {
+        when(recurringScheduleRepository.findActiveOnDate(anyLong(), any())).thenReturn(dailyPatterns(2));
+
+        List<ScheduleDTO> schedules = scheduleQueryService.getAllSchedulesByDate(DATE);
+
+        assertThat(schedules).hasSize(2);
+        assertThat(schedules).allSatisfy(schedule -> {
+            assertThat(schedule.getIsRecurring()).isTrue();
+            assertThat(schedule.getPatternType()).isEqualTo("DAILY");
+        });
+        assertThat(schedules).filteredOn(schedule -> schedule.getId() == -1L)
+                .singleElement()
+                .satisfies(schedule -> assertThat(schedule.getCompleted()).isTrue());
+    }
+
+    @Test
+    void rangeQueryLoadsWholeWindowInOneQueryPerSource() {
+        LocalDate from = LocalDate.of(2025, 4, 28);
+        LocalDate to = from.plusDays(41); // 6주 달력
+        when(scheduleRepository.findSchedulesForDateRangeAndMember(any(), any(), anyLong())).thenReturn(List.of(
+                Schedules.builder()
+                        .id(10L)
+                        .memberId(MEMBER_ID)
+                        .content("3일 일정")
+                        .startDate(DATE.atTime(9, 0))
+                        .endDate(DATE.plusDays(2).atTime(18, 0))
+                        .completed(false)
+                        .priority("high")
+                        .build()));
+        when(recurringScheduleRepository.findActiveInRange(anyLong(), any(), any())).thenReturn(dailyPatterns(200));
+
+        Map<LocalDate, List<ScheduleDTO>> schedulesByDate = scheduleQueryService.getAllSchedulesByDateRange(from, to);
+
+        assertThat(schedulesByDate).hasSize(42);
+        assertThat(schedulesByDate.get(DATE)).hasSize(201);
+        assertThat(schedulesByDate.get(DATE.plusDays(2))).first()
+                .satisfies(schedule -> assertThat(schedule.getId()).isEqualTo(10L));
+        assertThat(schedulesByDate.get(DATE.plusDays(3))).hasSize(200);
+
+        // 일반 일정 + 반복 패턴 + 예외 + 완료 이력 (요일은 패턴의 days_mask 에서 읽으므로 조회 없음)
+        assertThat(mockingDetails(scheduleRepository).getInvocations()).hasSize(1);
+        assertThat(mockingDetails(recurringScheduleRepository).getInvocations()).hasSize(1);
+        assertThat(mockingDetails(recurringScheduleDayRepository).getInvocations()).isEmpty();
+        assertThat(mockingDetails(recurringExceptionRepository).getInvocations()).hasSize(1);
+        assertThat(mockingDetails(completionHistoryRepository).getInvocations()).hasSize(1);
+    }
+
+    @Test
+    void dayViewIsCachedAndPatchedOnCompletionToggle() {
+        when(recurringScheduleRepository.findActiveOnDate(anyLong(), any())).thenReturn(dailyPatterns(2));
+
+        List<ScheduleDTO> first = scheduleQueryService.getAllSchedulesByDate(DATE);
+        int queries = mockingDetails(recurringScheduleRepository).getInvocations().size();
+
+        // 두 번째 조회는 캐시에서 (조회 없음)
+        assertThat(scheduleQueryService.getAllSchedulesByDate(DATE)).isSameAs(first);
+        assertThat(mockingDetails(recurringScheduleRepository).getInvocations()).hasSize(queries);
+
+        // 완료 토글은 캐시된 목록의 해당 일정만 교체
+        dayViewCache.applyCompletionAfterCommit(MEMBER_ID, 2L, true, DATE, true);
+        assertThat(scheduleQueryService.getAllSchedulesByDate(DATE))
+                .filteredOn(schedule -> schedule.getId() == -2L)
+                .singleElement()
+                .satisfies(schedule -> assertThat(schedule.getCompleted()).isTrue());
+        assertThat(mockingDetails(recurringScheduleRepository).getInvocations()).hasSize(queries);
+
+        // 회원 데이터 버전이 바뀌면 (다른 인스턴스의 쓰기 포함) 다시 조립
+        when(versionJdbcTemplate.queryForList(anyString(), eq(Long.class), eq(MEMBER_ID))).thenReturn(List.of(1L));
+        memberDataVersion.bump(MEMBER_ID);
+        scheduleQueryService.getAllSchedulesByDate(DATE);
+        assertThat(mockingDetails(recurringScheduleRepository).getInvocations()).hasSize(queries * 2);
+    }
+
+    @Test
+    void legacyTokenLooksUpMemberOncePerRequest() {
+        // memberId 클레임이 없는 토큰
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new MemberPrincipal("user@test.com", null, AUTHORITIES), "", AUTHORITIES));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        when(recurringScheduleRepository.findActiveOnDate(anyLong(), any())).thenReturn(dailyPatterns(1));
+
+        scheduleQueryService.getAllSchedulesByDate(DATE);
+
+        assertThat(mockingDetails(memberService).getInvocations()).hasSize(1);
+    }
+
+    @Test
+    void parallelFanOutRunsQueriesWithCallerContext() {
+        parallelFanOut = true;
+        setUp();
+        // 이전 토큰이어도 작업 스레드가 요청 속성의 회원 ID 를 그대로 사용
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(new MemberPrincipal("user@test.com", null, AUTHORITIES), "", AUTHORITIES));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        when(recurringScheduleRepository.findActiveOnDate(anyLong(), any())).thenReturn(dailyPatterns(3));
+
+        List<ScheduleDTO> schedules = scheduleQueryService.getAllSchedulesByDate(DATE);
+
+        assertThat(schedules).hasSize(3);
+        assertThat(schedules).filteredOn(schedule -> schedule.getId() == -1L)
+                .singleElement()
+                .satisfies(schedule -> assertThat(schedule.getCompleted()).isTrue());
+        assertThat(mockingDetails(memberService).getInvocations()).hasSize(1);
+        assertThat(mockingDetails(recurringScheduleRepository).getInvocations()).hasSize(1);
+    }
+
+    @Test
+    void recurrenceIndexLoadsOnlyPatternsOccurringOnDate() {
+        recurrenceIndexEnabled = true;
+        setUp();
+        // 화요일 전용 주간 패턴 200개 + 매일 패턴 2개, 조회 날짜는 수요일
+        List<RecurringSchedule> patterns = new ArrayList<>(dailyPatterns(2));
+        patterns.addAll(tuesdayPatterns(200));
+        when(recurringScheduleRepository.findByMemberId(MEMBER_ID)).thenReturn(patterns);
+        when(recurringScheduleRepository.findAllById(any())).thenAnswer(invocation -> {
+            Iterable<Long> ids = invocation.getArgument(0);
+            List<Long> idList = new ArrayList<>();
+            ids.forEach(idList::add);
+            return patterns.stream().filter(pattern -> idList.contains(pattern.getId())).toList();
+        });
+
+        assertThat(scheduleQueryService.getAllSchedulesByDate(DATE)).hasSize(2);
+        // 다음 날(목요일)은 회원 색인을 다시 만들지 않음
+        assertThat(scheduleQueryService.getAllSchedulesByDate(DATE.plusDays(1))).hasSize(2);
+
+        assertThat(mockingDetails(recurringScheduleRepository).getInvocations())
+                .filteredOn(invocation -> invocation.getMethod().getName().equals("findByMemberId"))
+                .hasSize(1);
+        assertThat(mockingDetails(recurringScheduleRepository).getInvocations())
+                .filteredOn(invocation -> invocation.getMethod().getName().equals("findAllById"))
+                .allSatisfy(invocation -> assertThat((Iterable<Long>) invocation.getArgument(0)).containsExactly(1L, 2L));
+    }
+
+    @Test
+    void currentStreakEndsAtTodayForRangesIntoTheFuture() {
+        LocalDate today = LocalDate.now();
+        when(recurringScheduleRepository.findByIdAndMemberId(1L, MEMBER_ID)).thenReturn(Optional.of(dailyPatterns(1).get(0)));
+        // 그제, 어제 완료, 오늘은 아직 완료하지 않음
+        when(completionHistoryRepository.findByMemberIdAndCompletionDateBetween(anyLong(), any(), any())).thenReturn(List.of(
+                completion(today.minusDays(2)),
+                completion(today.minusDays(1))));
+
+        CompletionStatsDTO stats = scheduleQueryService.getCompletionStats(1L, true, today.minusDays(5), today.plusDays(20));
+
+        assertThat(stats.getTotalOccurrences()).isEqualTo(26);
+        assertThat(stats.getCompletedOccurrences()).isEqualTo(2);
+        assertThat(stats.getCurrentStreak()).isEqualTo(2);
+        assertThat(stats.getLongestStreak()).isEqualTo(2);
+    }
+
+    private CompletionHistory completion(LocalDate date) {
+        return CompletionHistory.builder()
+                .scheduleId(1L)
+                .isRecurring(true)
+                .completionDate(date)
+                .completed(true)
+                .memberId(MEMBER_ID)
+                .build();
+    }
+
+    private int countQueriesFor(int patternCount) {
+        when(recurringScheduleRepository.findActiveOnDate(anyLong(), any())).thenReturn(dailyPatterns(patternCount));
+
+        List<ScheduleDTO> schedules = scheduleQueryService.getAllSchedulesByDate(DATE);
+        assertThat(schedules).hasSize(patternCount);
+
+        return mockingDetails(memberService).getInvocations().size()
+                + mockingDetails(scheduleRepository).getInvocations().size()
+                + mockingDetails(recurringScheduleRepository).getInvocations().size()
+                + mockingDetails(recurringScheduleDayRepository).getInvocations().size()
+                + mockingDetails(recurringExceptionRepository).getInvocations().size()
+                + mockingDetails(completionHistoryRepository).getInvocations().size();
+    }
+
+    private List<RecurringSchedule> dailyPatterns(int count) {
+        List<RecurringSchedule> patterns = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            patterns.add(RecurringSchedule.builder()
+                    .id(id)
+                    .memberId(MEMBER_ID)
+                    .content("반복 일정 " + id)
+                    .patternType("DAILY")
+                    .interval(1)
+                    .startDate(LocalDateTime.of(2025, 1, 1, 0, 0))
+                    .startTime("09:00")
+                    .endTime("10:00")
+                    .priority("medium")
+                    .build());
+        }
+        return patterns;
+    }
+
+    private List<RecurringSchedule> tuesdayPatterns(int count) {
+        List<RecurringSchedule> patterns = new ArrayList<>();
+        for (long id = 1001; id <= 1000 + count; id++) {
+            patterns.add(RecurringSchedule.builder()
+                    .id(id)
+                    .memberId(MEMBER_ID)
+                    .content("반복 일정 " + id)
+                    .patternType("WEEKLY")
+                    .interval(1)
+                    .startDate(LocalDateTime.of(2025, 1, 1, 0, 0))
+                    .startTime("09:00")
+                    .endTime("10:00")
+                    .priority("medium")
+                    .daysMask(DayOfWeekMask.bit(DayOfWeek.TUESDAY))
+                    .build());
+        }
+        return patterns;
+    }
+}